@@ -46,6 +46,24 @@ public abstract class GameEntity {
         return capabilitySet.hasCapability(capability);
     }
 
+    /**
+     * Add all of this entity's capabilities to a set.
+     * Example #1: an Actor adds the capabilities of the Items it carries to its own, to work out everything it can do.
+     * @param set the set to add the capabilities to
+     */
+    public void addCapabilitiesTo(CapabilitySet set) {
+        set.addAll(capabilitySet);
+    }
+
+    /**
+     * Returns a number that changes every time a capability is added to or removed from this entity.
+     * Example #1: an Actor notes the numbers of the Items it carries, to know when to work out everything it can do again.
+     * @return the number of changes made to this entity's capabilities so far
+     */
+    public int capabilityVersion() {
+        return capabilitySet.version();
+    }
+
     /**
      * Get unmodifiable capabilities list
      * Example #1: if the current entity has the Status.POISONED and Ability.FALL_FROM_CLIFF capabilities, this method will return a list of
@@ -0,0 +1,86 @@
+package edu.monash.fit2099.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * The source of all randomness in the game.
+ * <p>
+ * Everything random in a World comes from that World's own root stream, so a game can be replayed
+ * exactly by making its World with the same seed (see
+ * {@link edu.monash.fit2099.engine.positions.World#World(edu.monash.fit2099.engine.displays.Display, long)}).
+ * Rather than sharing one generator, each GameMap gets its own stream, split off the World's
+ * when it is added to the World, and each Actor gets one when it is first put on a map: split off
+ * the current stream if the game is running, or off the map's stream while the World is being
+ * set up. The engine makes the right stream current while it works on an Actor or GameMap. Code
+ * that has no Actor or map to hand, such as a weapon rolling to hit, uses {@link #current()}.
+ * Because every thread has its own current stream, the results don't depend on how the work is
+ * spread over threads, and two Worlds never share a stream.
+ * <p>
+ * Code that runs outside any World's work gets an unseeded stream of its own thread.
+ */
+public final class RandomStreams {
+
+    /**
+     * The stream in use on each thread, if the engine has set one
+     */
+    private static final ThreadLocal<SplittableRandom> CURRENT = new ThreadLocal<>();
+
+    private RandomStreams() {
+    }
+
+    /**
+     * The stream used on each thread when the engine hasn't set one, which isn't seeded
+     */
+    private static final ThreadLocal<SplittableRandom> UNSEEDED = ThreadLocal.withInitial(SplittableRandom::new);
+
+    /**
+     * Returns the stream for whatever the engine is working on at the moment on this thread,
+     * or an unseeded one if it isn't working on anything.
+     *
+     * @return the current stream
+     */
+    public static SplittableRandom current() {
+        SplittableRandom stream = CURRENT.get();
+        return stream != null ? stream : UNSEEDED.get();
+    }
+
+    /**
+     * Returns whether the engine has made a stream current on this thread, i.e. whether it is
+     * working on an Actor or GameMap.
+     *
+     * @return true if there is a current stream
+     */
+    public static boolean hasCurrent() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Returns a new, independent stream split off the current one, for something that is
+     * being created.
+     *
+     * @return a new stream
+     */
+    public static SplittableRandom split() {
+        return current().split();
+    }
+
+    /**
+     * Runs some work with the given stream as the current one, restoring the previous stream afterwards.
+     *
+     * @param stream the stream to use
+     * @param work   the work to do
+     */
+    public static void runWith(SplittableRandom stream, Runnable work) {
+        SplittableRandom previous = CURRENT.get();
+        CURRENT.set(stream);
+        try {
+            work.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
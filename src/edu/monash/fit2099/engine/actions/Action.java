@@ -15,6 +15,33 @@ public abstract class Action {
 	 * @return a description of what happened (the result of the action being performed) that can be displayed to the user.
 	 */
 	public abstract String execute(Actor actor, GameMap map);
+
+	/**
+	 * Perform the Action, returning what happened as an ActionResult that is only turned into
+	 * text if somebody displays it.  This is what the World calls.
+	 *
+	 * By default this calls execute() and wraps its text.  Actions whose messages are costly to
+	 * build can override this to return a template and its arguments instead, and implement
+	 * execute() as {@code perform(actor, map).render()}.
+	 * @param actor The actor performing the action.
+	 * @param map The map the actor is on.
+	 * @return what happened when the action was performed
+	 */
+	public ActionResult perform(Actor actor, GameMap map) {
+		return ActionResult.of(execute(actor, map));
+	}
+
+	/**
+	 * Checks whether an Action chosen earlier can still be carried out.
+	 * This is asked before executing an Action that was planned while other Actors were
+	 * still taking their turns, e.g. in case somebody has since moved into the destination.
+	 * @param actor The actor performing the action.
+	 * @param map The map the actor is on.
+	 * @return true if it still makes sense to execute the Action; true by default
+	 */
+	public boolean isStillValid(Actor actor, GameMap map) {
+		return true;
+	}
 	
 	/**
 	 * Describe what action will be performed if this Action is chosen in the menu.
@@ -0,0 +1,123 @@
+package edu.monash.fit2099.engine.actions;
+
+/**
+ * What happened when an Action was performed, kept as a template and its arguments rather
+ * than as finished text.
+ *
+ * Building a message (formatting numbers, calling toString() on Actors and Weapons) is only
+ * worth doing if somebody is going to read it.  An ActionResult puts that off until a Display
+ * asks for the text with {@link #render()}; a Display that shows nothing never pays for it.
+ * A result can carry several lines, e.g. an attack followed by the target dying.
+ *
+ * The arguments are looked at when the result is rendered, not when it is made, so render it
+ * straight away (as the World does) if they might change.
+ */
+public final class ActionResult {
+
+	/**
+	 * A format string for {@link String#format(String, Object...)}, or the finished text if args is null
+	 */
+	private final String template;
+	private final Object[] args;
+	/**
+	 * The next line, if any
+	 */
+	private final ActionResult next;
+
+	private ActionResult(String template, Object[] args, ActionResult next) {
+		this.template = template;
+		this.args = args;
+		this.next = next;
+	}
+
+	/**
+	 * Returns a result whose text is already known.
+	 *
+	 * @param text the text
+	 * @return a result that renders as text
+	 */
+	public static ActionResult of(String text) {
+		return new ActionResult(text, null, null);
+	}
+
+	/**
+	 * Returns a result that will be formatted with {@link String#format(String, Object...)} when it is rendered.
+	 *
+	 * @param template the format string
+	 * @param args the arguments the format string refers to
+	 * @return a result that renders as the formatted template
+	 */
+	public static ActionResult format(String template, Object... args) {
+		return new ActionResult(template, args, null);
+	}
+
+	/**
+	 * Returns a result with another line added after all of this one's lines.
+	 *
+	 * @param more the line(s) to add
+	 * @return a new result; this one is not changed
+	 */
+	public ActionResult thenLine(ActionResult more) {
+		return new ActionResult(template, args, next == null ? more : next.thenLine(more));
+	}
+
+	/**
+	 * Returns a result with another line of text added after all of this one's lines.
+	 *
+	 * @param text the line to add
+	 * @return a new result; this one is not changed
+	 */
+	public ActionResult thenLine(String text) {
+		return thenLine(of(text));
+	}
+
+	/**
+	 * Returns the template of the first line, i.e. the format string, or the text if it had no arguments.
+	 *
+	 * @return the template
+	 */
+	public String getTemplate() {
+		return template;
+	}
+
+	/**
+	 * Returns the arguments of the first line.
+	 *
+	 * @return a copy of the arguments, empty if the line is plain text
+	 */
+	public Object[] getArguments() {
+		return args == null ? new Object[0] : args.clone();
+	}
+
+	/**
+	 * Builds the text, one line per line of the result.
+	 *
+	 * @return the text of the result
+	 */
+	public String render() {
+		if (next == null)
+			return renderLine();
+
+		StringBuilder text = new StringBuilder();
+		for (ActionResult line = this; line != null; line = line.next) {
+			if (line != this)
+				text.append('\n');
+			text.append(line.renderLine());
+		}
+		return text.toString();
+	}
+
+	private String renderLine() {
+		return args == null ? template : String.format(template, args);
+	}
+
+	/**
+	 * Same as render().
+	 *
+	 * @return the text of the result
+	 */
+	@Override
+	public String toString() {
+		return render();
+	}
+}
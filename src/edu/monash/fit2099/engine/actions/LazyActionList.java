@@ -0,0 +1,114 @@
+package edu.monash.fit2099.engine.actions;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An ActionList that is not filled in until something looks at it.
+ * <p>
+ * The World hands one of these to each Actor on its turn. Building the full list of
+ * Actions means visiting the Actor's inventory, the ground, every exit and the
+ * neighbouring Actors, which is wasted work for Actors (such as behaviour-driven NPCs)
+ * that never read it. The populator runs at most once, the first time any method of
+ * the list is called, so an Actor that ignores its list never pays for it.
+ * <p>
+ * Note that the Actions reflect the state of the game at the moment the list is first
+ * used, not at the start of the turn.
+ */
+public class LazyActionList extends ActionList {
+	/**
+	 * Fills in the list; null once it has run
+	 */
+	private Consumer<ActionList> populator;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param populator adds the Actions to the list it is given when the list is first used
+	 */
+	public LazyActionList(Consumer<ActionList> populator) {
+		this.populator = populator;
+	}
+
+	/**
+	 * Returns true if the list has been filled in, i.e. someone has used it.
+	 *
+	 * @return true if the populator has run
+	 */
+	public boolean isBuilt() {
+		return populator == null;
+	}
+
+	/**
+	 * Runs the populator if it hasn't been run yet.
+	 */
+	private void ensureBuilt() {
+		if (populator != null) {
+			Consumer<ActionList> pending = populator;
+			populator = null; // so that the populator's own add() calls don't come back here
+			pending.accept(this);
+		}
+	}
+
+	@Override
+	public boolean add(Action action) {
+		ensureBuilt();
+		return super.add(action);
+	}
+
+	@Override
+	public void add(ActionList actions) {
+		ensureBuilt();
+		super.add(actions);
+	}
+
+	@Override
+	public void add(List<Action> actions) {
+		ensureBuilt();
+		super.add(actions);
+	}
+
+	@Override
+	public Iterator<Action> iterator() {
+		ensureBuilt();
+		return super.iterator();
+	}
+
+	@Override
+	public List<Action> sorted(Comparator<Action> comparator) {
+		ensureBuilt();
+		return super.sorted(comparator);
+	}
+
+	@Override
+	public void clear() {
+		ensureBuilt();
+		super.clear();
+	}
+
+	@Override
+	public int size() {
+		ensureBuilt();
+		return super.size();
+	}
+
+	@Override
+	public void remove(Action action) {
+		ensureBuilt();
+		super.remove(action);
+	}
+
+	@Override
+	public Action get(int i) {
+		ensureBuilt();
+		return super.get(i);
+	}
+
+	@Override
+	public List<Action> getUnmodifiableActionList() {
+		ensureBuilt();
+		return super.getUnmodifiableActionList();
+	}
+}
@@ -2,12 +2,15 @@ package edu.monash.fit2099.engine.actors;
 
 
 import edu.monash.fit2099.engine.GameEntity;
+import edu.monash.fit2099.engine.RandomStreams;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperations;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
+import edu.monash.fit2099.engine.actors.attributes.IntAttributes;
+import edu.monash.fit2099.engine.capabilities.CapabilitySet;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.displays.Printable;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
@@ -30,8 +33,13 @@ public abstract class Actor extends GameEntity implements Printable {
      * which enables more interesting game mechanics.
      * For example, in addition to hit points, another attribute that represents its stamina can be added.
      * If the actor runs out of stamina, it will be unable to perform certain actions, such as attacking.
+     * Attributes given as a {@link BaseActorAttribute} are kept as plain ints, so using them doesn't box anything.
      */
-    private final Map<Enum<?>, ActorAttribute<Integer>> attributes = new HashMap<>();
+    private final IntAttributes intAttributes = new IntAttributes();
+    /**
+     * Attributes with their own {@link ActorAttribute} implementation; null until there is one
+     */
+    private Map<Enum<?>, ActorAttribute<Integer>> customAttributes;
     /**
      * Actor's name
      */
@@ -44,18 +52,40 @@ public abstract class Actor extends GameEntity implements Printable {
      * A bag of items
      */
     private final List<Item> itemInventory = new ArrayList<>();
+    /**
+     * Counts the changes made to the inventory
+     */
+    private int inventoryVersion;
+    /**
+     * The Actor's and its items' capabilities together, worked out when first needed; see {@link #hasCapability(Enum)}
+     */
+    private volatile CombinedCapabilities combinedCapabilities;
     /**
      * Status effects of the current actor,
      * e.g., the current actor might be poisoned, so a Poison status effect
      * can be attached to the current actor to deal damage over time.
      */
     private final List<StatusEffect> statusEffects = new ArrayList<>();
+    /**
+     * The status effects that need to be ticked the next time this Actor is, maintained by {@link StatusEffectScheduler}
+     */
+    final List<StatusEffect> dueEffects = new ArrayList<>();
+    private int nextEffectSequence;
     /**
      * damage multiplier for actor's intrinsic weapon
      */
     protected float damageMultiplier;
     private final Wallet wallet;
     private IntrinsicWeapon intrinsicWeapon;
+    /**
+     * Where this Actor is and when it takes its turn, maintained by {@link ActorLocationsIterator}
+     */
+    ActorLocationsIterator.TurnEntry turnEntry;
+    /**
+     * This Actor's own random stream, given to it when it is first put on a map
+     * (see {@link ActorLocationsIterator}), or null until then
+     */
+    SplittableRandom random;
 
     /**
      * The constructor of the Actor class.
@@ -79,17 +109,110 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return true if the actor has the queried attribute, false otherwise
      */
     public boolean hasAttribute(Enum<?> name) {
-        return this.attributes.containsKey(name);
+        return this.intAttributes.has(name) || (customAttributes != null && customAttributes.containsKey(name));
     }
 
     /**
      * A method for adding an attribute to the actor.
+     * A {@link BaseActorAttribute} is copied into the actor's own int store, so changing it afterwards has no effect;
+     * any other implementation is kept and used as it is.
      *
      * @param name      the name of the attribute to be added, which must be a value of an enumeration, such as BaseActorAttributes.STAMINA.
      * @param attribute an object that implements the {@link ActorAttribute} interface.
      */
     public void addAttribute(Enum<?> name, ActorAttribute<Integer> attribute) {
-        this.attributes.put(name, attribute);
+        if (attribute.getClass() == BaseActorAttribute.class) {
+            this.intAttributes.add(name, attribute.get(), attribute.getMaximum());
+            if (customAttributes != null) {
+                customAttributes.remove(name);
+            }
+        } else {
+            if (customAttributes == null) {
+                customAttributes = new HashMap<>();
+            }
+            customAttributes.put(name, attribute);
+            this.intAttributes.remove(name);
+        }
+    }
+
+    /**
+     * Returns the attribute with its own {@link ActorAttribute} implementation that has this name.
+     *
+     * @param name the name of the attribute
+     * @return the attribute, or null if there isn't one
+     */
+    private ActorAttribute<Integer> customAttribute(Enum<?> name) {
+        return customAttributes == null ? null : customAttributes.get(name);
+    }
+
+    /**
+     * Returns the current value of an attribute without boxing it.
+     *
+     * @param name the name of the attribute, such as BaseActorAttributes.HEALTH
+     * @return the value of the attribute
+     * @throws IllegalArgumentException if the actor doesn't have the attribute
+     */
+    public int getInt(Enum<?> name) {
+        ActorAttribute<Integer> custom = customAttribute(name);
+        return custom != null ? custom.get() : this.intAttributes.get(name);
+    }
+
+    /**
+     * Returns the maximum value of an attribute without boxing it.
+     *
+     * @param name the name of the attribute, such as BaseActorAttributes.HEALTH
+     * @return the maximum value of the attribute
+     * @throws IllegalArgumentException if the actor doesn't have the attribute
+     */
+    public int getIntMaximum(Enum<?> name) {
+        ActorAttribute<Integer> custom = customAttribute(name);
+        return custom != null ? custom.getMaximum() : this.intAttributes.getMaximum(name);
+    }
+
+    /**
+     * The same as {@link #modifyAttribute(Enum, ActorAttributeOperations, int)}, which is kept for compatibility.
+     *
+     * @param name      the name of the attribute to be modified, such as BaseActorAttributes.STAMINA.
+     * @param operation the operation to be performed on the attribute, such as INCREASE, DECREASE, or UPDATE.
+     * @param value     the value to be used in the operation.
+     * @throws IllegalArgumentException if the operation is invalid or the actor doesn't have the attribute.
+     */
+    public void modifyInt(Enum<?> name, ActorAttributeOperations operation, int value) throws IllegalArgumentException {
+        ActorAttribute<Integer> custom = customAttribute(name);
+        if (custom == null) {
+            this.intAttributes.modify(name, operation, value);
+        } else if (operation == ActorAttributeOperations.INCREASE) {
+            custom.increase(value);
+        } else if (operation == ActorAttributeOperations.DECREASE) {
+            custom.decrease(value);
+        } else if (operation == ActorAttributeOperations.UPDATE) {
+            custom.update(value);
+        } else {
+            throw new IllegalArgumentException("Invalid operation for modifying the value of actor's attribute.");
+        }
+    }
+
+    /**
+     * The same as {@link #modifyAttributeMaximum(Enum, ActorAttributeOperations, int)}, which is kept for compatibility.
+     *
+     * @param name      the name of the attribute to be modified, such as BaseActorAttributes.STAMINA.
+     * @param operation the operation to be performed on the attribute, such as INCREASE, DECREASE, or UPDATE.
+     * @param value     the value to be used in the operation.
+     * @throws IllegalArgumentException if the operation is invalid or the actor doesn't have the attribute.
+     */
+    public void modifyIntMaximum(Enum<?> name, ActorAttributeOperations operation, int value) throws IllegalArgumentException {
+        ActorAttribute<Integer> custom = customAttribute(name);
+        if (custom == null) {
+            this.intAttributes.modifyMaximum(name, operation, value);
+        } else if (operation == ActorAttributeOperations.INCREASE) {
+            custom.increaseMaximum(value);
+        } else if (operation == ActorAttributeOperations.DECREASE) {
+            custom.decreaseMaximum(value);
+        } else if (operation == ActorAttributeOperations.UPDATE) {
+            custom.updateMaximum(value);
+        } else {
+            throw new IllegalArgumentException("Invalid operation for modifying the maximum value of actor's attribute.");
+        }
     }
 
     /**
@@ -107,18 +230,11 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param name      the name of the attribute to be modified, which must be a value of an enumeration, such as BaseActorAttributes.STAMINA.
      * @param operation the operation to be performed on the attribute, such as INCREASE, DECREASE, or UPDATE.
      * @param value     the value to be used in the operation.
-     * @throws IllegalArgumentException if the operation is invalid.
+     * @throws IllegalArgumentException if the operation is invalid or the actor doesn't have the attribute.
+     * @see #modifyInt(Enum, ActorAttributeOperations, int)
      */
     public void modifyAttribute(Enum<?> name, ActorAttributeOperations operation, int value) throws IllegalArgumentException {
-        if (operation == ActorAttributeOperations.INCREASE) {
-            this.attributes.get(name).increase(value);
-        } else if (operation == ActorAttributeOperations.DECREASE) {
-            this.attributes.get(name).decrease(value);
-        } else if (operation == ActorAttributeOperations.UPDATE) {
-            this.attributes.get(name).update(value);
-        } else {
-            throw new IllegalArgumentException("Invalid operation for modifying the value of actor's attribute.");
-        }
+        modifyInt(name, operation, value);
     }
 
     /**
@@ -128,18 +244,11 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param name      the name of the attribute to be modified, which must be a value of an enumeration, such as BaseActorAttributes.STAMINA.
      * @param operation the operation to be performed on the attribute, such as INCREASE, DECREASE, or UPDATE.
      * @param value     the value to be used in the operation.
-     * @throws IllegalArgumentException if the operation is invalid.
+     * @throws IllegalArgumentException if the operation is invalid or the actor doesn't have the attribute.
+     * @see #modifyIntMaximum(Enum, ActorAttributeOperations, int)
      */
     public void modifyAttributeMaximum(Enum<?> name, ActorAttributeOperations operation, int value) throws IllegalArgumentException {
-        if (operation == ActorAttributeOperations.INCREASE) {
-            this.attributes.get(name).increaseMaximum(value);
-        } else if (operation == ActorAttributeOperations.DECREASE) {
-            this.attributes.get(name).decreaseMaximum(value);
-        } else if (operation == ActorAttributeOperations.UPDATE) {
-            this.attributes.get(name).updateMaximum(value);
-        } else {
-            throw new IllegalArgumentException("Invalid operation for modifying the maximum value of actor's attribute.");
-        }
+        modifyIntMaximum(name, operation, value);
     }
 
     /**
@@ -147,13 +256,13 @@ public abstract class Actor extends GameEntity implements Printable {
      *
      * @param name the name of the attribute to be retrieved, which must be a value of an enumeration, such as BaseActorAttributes.STAMINA.
      * @return the value of the attribute or null if the attribute doesn't exist
+     * @see #getInt(Enum)
      */
     public Integer getAttribute(Enum<?> name) {
-        ActorAttribute<Integer> attribute = this.attributes.get(name);
-        if (attribute == null) {
+        if (!hasAttribute(name)) {
             return null;
         }
-        return attribute.get();
+        return getInt(name);
     }
 
     /**
@@ -161,13 +270,13 @@ public abstract class Actor extends GameEntity implements Printable {
      *
      * @param name the name of the attribute to be retrieved, which must be a value of an enumeration, such as BaseActorAttributes.STAMINA.
      * @return the maximum value of the attribute or null if the attribute doesn't exist
+     * @see #getIntMaximum(Enum)
      */
     public Integer getAttributeMaximum(Enum<?> name) {
-        ActorAttribute<Integer> attribute = this.attributes.get(name);
-        if (attribute == null) {
+        if (!hasAttribute(name)) {
             return null;
         }
-        return attribute.getMaximum();
+        return getIntMaximum(name);
     }
 
     /**
@@ -227,8 +336,8 @@ public abstract class Actor extends GameEntity implements Printable {
     @Override
     public String toString() {
         return name + " (" +
-                this.getAttribute(BaseActorAttributes.HEALTH) + "/" +
-                this.getAttributeMaximum(BaseActorAttributes.HEALTH) +
+                this.getInt(BaseActorAttributes.HEALTH) + "/" +
+                this.getIntMaximum(BaseActorAttributes.HEALTH) +
                 ")";
     }
 
@@ -258,6 +367,7 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void addItemToInventory(Item item) {
         itemInventory.add(item);
+        inventoryVersion++;
     }
 
     /**
@@ -268,7 +378,9 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param item The Item to remove.
      */
     public void removeItemFromInventory(Item item) {
-        itemInventory.remove(item);
+        if (itemInventory.remove(item)) {
+            inventoryVersion++;
+        }
     }
 
     /**
@@ -289,6 +401,15 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void addStatusEffect(StatusEffect effect) {
         statusEffects.add(effect);
+        Actor previousOwner = effect.owner;
+        effect.owner = this;
+        effect.sequence = nextEffectSequence++;
+        effect.scheduler = null;
+        effect.due = Long.MIN_VALUE;
+        if (!effect.queued || previousOwner != this) {
+            effect.queued = true;
+            dueEffects.add(effect);
+        }
     }
 
     /**
@@ -297,7 +418,8 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param effect effect to be removed from the current actor
      */
     public void removeStatusEffect(StatusEffect effect) {
-        statusEffects.remove(effect);
+        if (statusEffects.remove(effect) && effect.owner == this)
+            effect.owner = null;
     }
 
     /**
@@ -311,6 +433,23 @@ public abstract class Actor extends GameEntity implements Printable {
         return Collections.unmodifiableList(statusEffects);
     }
 
+    /**
+     * Returns this Actor's random stream.
+     * <p>
+     * Use this for any random choices the Actor makes, so that a game played from the same
+     * seed comes out the same even when turns are planned in parallel.
+     * <p>
+     * An Actor that is asked for its stream before it has been put on a map splits one off
+     * the current stream (see {@link RandomStreams#split()}).
+     *
+     * @return the Actor's own random stream
+     */
+    public SplittableRandom getRandom() {
+        if (random == null)
+            random = RandomStreams.split();
+        return random;
+    }
+
     /**
      * Select and return an action to perform on the current turn.
      *
@@ -322,6 +461,21 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public abstract Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display);
 
+    /**
+     * Whether {@link #playTurn(ActionList, Action, GameMap, Display)} can run at the same time as
+     * other Actors are deciding their turns.
+     * <p>
+     * When the World has a planning pool, such Actors choose their Actions in parallel against the
+     * world as it was at the start of the round, and then the Actions are carried out one at a time
+     * in turn order. playTurn must only read the world, and must not ask the Display for input.
+     *
+     * @return true if this Actor's turns can be planned concurrently; false by default
+     * @see edu.monash.fit2099.engine.positions.World#setPlanningPool(java.util.concurrent.ForkJoinPool)
+     */
+    public boolean canPlanConcurrently() {
+        return false;
+    }
+
     /**
      * Returns a new collection of the Actions that the otherActor can do to the current Actor.
      *
@@ -344,7 +498,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return true if and only if hitPoints is positive.
      */
     public boolean isConscious() {
-        return this.getAttribute(BaseActorAttributes.HEALTH) > 0;
+        return this.getInt(BaseActorAttributes.HEALTH) > 0;
     }
 
     /**
@@ -377,7 +531,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param damage the damage points that the actor receives
      */
     public void hurt(int damage) {
-        this.modifyAttribute(BaseActorAttributes.HEALTH, ActorAttributeOperations.DECREASE, damage);
+        this.modifyInt(BaseActorAttributes.HEALTH, ActorAttributeOperations.DECREASE, damage);
     }
 
     /**
@@ -386,7 +540,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param points the health points that the actor receives
      */
     public void heal(int points) {
-        this.modifyAttribute(BaseActorAttributes.HEALTH, ActorAttributeOperations.INCREASE, points);
+        this.modifyInt(BaseActorAttributes.HEALTH, ActorAttributeOperations.INCREASE, points);
     }
 
     /**
@@ -408,17 +562,56 @@ public abstract class Actor extends GameEntity implements Printable {
     /**
      * Returns true if and only if the current Actor has the required capability.
      * It will also return true if any of the items that the actor is carrying has the required capability.
+     * <p>
+     * The Actor's own capabilities and its items' are combined into one set, which is only worked out again
+     * after one of them changes, so this only looks at how many changes each item has had.
      *
      * @param capability the capability required
      * @return true if and only if the current Actor has the required capability
      */
     @Override
     public final boolean hasCapability(Enum<?> capability) {
-        for (Item item : itemInventory) {
-            if (item.hasCapability(capability)) {
-                return true;
+        CombinedCapabilities combined = this.combinedCapabilities;
+        if (combined == null || !combined.isUpToDate(this)) {
+            combined = new CombinedCapabilities(this);
+            this.combinedCapabilities = combined;
+        }
+        return combined.capabilities.hasCapability(capability);
+    }
+
+    /**
+     * The capabilities of an Actor together with those of the items it was carrying, and what they were worked out from.
+     */
+    private static class CombinedCapabilities {
+        private final int ownVersion;
+        private final int inventoryVersion;
+        /** The sum of the capability versions of the items carried; each version only goes up, so any change moves it */
+        private final long itemVersions;
+        private final CapabilitySet capabilities = new CapabilitySet();
+
+        private CombinedCapabilities(Actor actor) {
+            // Note what we are working from first, so that a change made meanwhile makes this out of date
+            this.ownVersion = actor.capabilitySet.version();
+            this.inventoryVersion = actor.inventoryVersion;
+            this.itemVersions = itemVersions(actor);
+            capabilities.addAll(actor.capabilitySet);
+            for (Item item : actor.itemInventory) {
+                item.addCapabilitiesTo(capabilities);
+            }
+        }
+
+        private boolean isUpToDate(Actor actor) {
+            return ownVersion == actor.capabilitySet.version()
+                    && inventoryVersion == actor.inventoryVersion
+                    && itemVersions == itemVersions(actor);
+        }
+
+        private static long itemVersions(Actor actor) {
+            long sum = 0;
+            for (Item item : actor.itemInventory) {
+                sum += item.capabilityVersion();
             }
+            return sum;
         }
-        return capabilitySet.hasCapability(capability);
     }
 }
@@ -1,5 +1,7 @@
 package edu.monash.fit2099.engine.actors;
 
+import edu.monash.fit2099.engine.RandomStreams;
+import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 
 import java.util.*;
@@ -8,28 +10,67 @@ import java.util.*;
  * Represents a bimap of locations and actors. Hence it enforces the one actor
  * per location rule. Has a nifty iterator that lets us modify the collection
  * while iterating it.
+ * <p>
+ * Locations are looked up in the {@link OccupancyGrid} of their GameMap, and each
+ * Actor holds a reference to its own turn-order entry, so neither direction of the
+ * bimap needs hashing.
  *
  */
 public class ActorLocationsIterator implements Iterable<Actor> {
 	/**
-	 * A mapping of location to the actor
+	 * The Actors on each GameMap, in the order they arrived there
 	 */
-	private final Map<Location, Actor> locationToActor;
+	private final Map<GameMap, Set<Actor>> actorsByMap;
 	/**
-	 * A mapping of actor to location
+	 * Sentinel at the front of the turn order. The player is kept out of this list.
 	 */
-	private final Map<Actor, Location> actorToLocation;
+	private final TurnEntry turnHead;
+	/**
+	 * Last entry in the turn order
+	 */
+	private TurnEntry turnTail;
+	/**
+	 * The player's turn-order entry, or null if the player isn't in the system
+	 */
+	private TurnEntry playerEntry;
+	/**
+	 * Sequence number handed to the next Actor added
+	 */
+	private long nextSequence;
 	/**
 	 * Current actor
 	 */
 	private Actor player;
+	/**
+	 * The confinement of each GameMap during a parallel tick, or null when there isn't one going on
+	 */
+	private Map<GameMap, Confinement> mapConfinements;
+	/**
+	 * What the current thread is allowed to change straight away, or null if it can change anything
+	 */
+	private final ThreadLocal<Confinement> confinement = new ThreadLocal<Confinement>();
+	/**
+	 * When the status effects of the Actors need ticking
+	 */
+	private final StatusEffectScheduler statusEffectScheduler = new StatusEffectScheduler(this);
 
 	/**
 	 * Default constructor.
 	 */
 	public ActorLocationsIterator() {
-		locationToActor = new HashMap<Location, Actor>();
-		actorToLocation = new HashMap<Actor, Location>();
+		actorsByMap = new HashMap<GameMap, Set<Actor>>();
+		turnHead = new TurnEntry(this, null);
+		turnHead.sequence = -1;
+		turnTail = turnHead;
+	}
+
+	/**
+	 * Returns the scheduler that ticks the status effects of the Actors in the system.
+	 *
+	 * @return the status effect scheduler
+	 */
+	public StatusEffectScheduler getStatusEffectScheduler() {
+		return statusEffectScheduler;
 	}
 
 	/**
@@ -38,25 +79,50 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param player the player
 	 */
 	public void setPlayer(Actor player) {
+		if (playerEntry != null) {
+			append(playerEntry);
+			playerEntry = null;
+		}
+
 		this.player = player;
+		TurnEntry entry = entryOf(player);
+		if (entry != null) {
+			if (entry.linked)
+				unlink(entry);
+			playerEntry = entry;
+		}
 	}
 			
 			
 	/**
 	 * Add a new Actor at the given Location.
 	 *
+	 * An Actor that doesn't have a random stream yet gets one here: split off the current stream
+	 * if the game is running, or off the map's stream if it isn't (see {@link RandomStreams}).
+	 *
 	 * @param actor the Actor to place
 	 * @param location where to place the Actor
 	 * @throws IllegalArgumentException if the Actor is already placed or there is already an Actor at the target Location
 	 */
 	public void add(Actor actor, Location location) {
-		if(actorToLocation.containsKey(actor))
+		Confinement current = confinement.get();
+		if (current != null && !current.covers(location)) {
+			current.defer(() -> add(actor, location));
+			return;
+		}
+		if(contains(actor))
 			throw new IllegalArgumentException();
-		if(locationToActor.containsKey(location))
+		if(isAnActorAt(location))
 			throw new IllegalArgumentException();
-		
-		actorToLocation.put(actor, location);
-		locationToActor.put(location, actor);
+
+		if (actor.random == null)
+			actor.random = RandomStreams.hasCurrent() ? RandomStreams.split() : location.map().getRandom().split();
+
+		TurnEntry entry = new TurnEntry(this, actor);
+		entry.location = location;
+		actor.turnEntry = entry;
+		gridOf(location).set(location.x(), location.y(), actor);
+		register(entry);
 	}
 
 	/**
@@ -65,9 +131,20 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param actor the Actor to remove
 	 */
 	public void remove(Actor actor) {
-		Location location = actorToLocation.get(actor);
-		actorToLocation.remove(actor);
-		locationToActor.remove(location);
+		TurnEntry entry = entryOf(actor);
+		if (entry == null)
+			return;
+		Confinement current = confinement.get();
+		if (current != null && !current.covers(entry.location)) {
+			current.defer(() -> remove(actor));
+			return;
+		}
+
+		Location location = entry.location;
+		gridOf(location).set(location.x(), location.y(), null);
+		actor.turnEntry = null;
+		entry.removed = true;
+		unregister(entry);
 	}
 
 	/**
@@ -75,16 +152,202 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 *
 	 * @param actor the Actor to move
 	 * @param newLocation the Actor's destination
-	 * @throws IllegalArgumentException if another Actor is already at that Location
+	 * @throws IllegalArgumentException if the Actor isn't placed, or another Actor is already at that Location
 	 */
 	public void move(Actor actor, Location newLocation) {
+		TurnEntry entry = entryOf(actor);
+		Confinement current = confinement.get();
+		if (entry != null && current != null && !(current.covers(entry.location) && current.covers(newLocation))) {
+			current.defer(() -> move(actor, newLocation));
+			return;
+		}
 		if(isAnActorAt(newLocation))
 			throw new IllegalArgumentException("Can't move to another actor");
+		if(entry == null)
+			throw new IllegalArgumentException("Can't move an actor that isn't on a map");
+
+		Location oldLocation = entry.location;
+		entry.location = newLocation;
+		gridOf(oldLocation).set(oldLocation.x(), oldLocation.y(), null);
+		gridOf(newLocation).set(newLocation.x(), newLocation.y(), actor);
+
+		// Moving between maps (e.g. through a teleporter) changes map membership too
+		if (oldLocation.map() != newLocation.map()) {
+			membersOf(oldLocation.map()).remove(actor);
+			membersOf(newLocation.map()).add(actor);
+		}
+	}
+
+	/**
+	 * Starts a parallel tick of the given GameMaps.
+	 * <p>
+	 * Until {@link #endParallelTick()}, each GameMap may be ticked on its own thread inside
+	 * {@link #runConfinedTo(GameMap, Runnable)}. Adding, moving and removing Actors on the
+	 * GameMap being ticked takes effect on that GameMap straight away, but changes to the
+	 * shared turn order are held back. So are any changes that touch another GameMap, such as
+	 * teleporting an Actor away; until they are applied, the Actor stays where it was.
+	 * Looking at other GameMaps during a parallel tick gives unreliable answers.
+	 *
+	 * @param maps the GameMaps about to be ticked, in the order their updates should be applied
+	 * @throws IllegalStateException if a parallel tick is already going on
+	 */
+	public void beginParallelTick(List<GameMap> maps) {
+		if (mapConfinements != null)
+			throw new IllegalStateException("Parallel tick already in progress");
+
+		mapConfinements = new LinkedHashMap<GameMap, Confinement>();
+		for (GameMap map : maps) {
+			mapConfinements.put(map, new Confinement(map));
+			membersOf(map); // create it now so nothing is added to actorsByMap while threads are running
+		}
+	}
+
+	/**
+	 * Runs some work on the current thread on behalf of one GameMap during a parallel tick.
+	 *
+	 * @param map the GameMap the work belongs to
+	 * @param work the work, typically ticking map
+	 * @throws IllegalArgumentException if map wasn't passed to {@link #beginParallelTick(List)}
+	 */
+	public void runConfinedTo(GameMap map, Runnable work) {
+		Confinement mapConfinement = mapConfinements != null ? mapConfinements.get(map) : null;
+		if (mapConfinement == null)
+			throw new IllegalArgumentException("Map is not part of the parallel tick");
+
+		runConfined(mapConfinement, work);
+	}
+
+	/**
+	 * Runs some work on the current thread that only touches a rectangle of one GameMap, so
+	 * that other rectangles can be worked on at the same time.
+	 * <p>
+	 * Adding, moving and removing Actors within the rectangle takes effect straight away.
+	 * Changes to the GameMap's list of Actors and to the turn order are held back, as are
+	 * changes that reach outside the rectangle. They are returned, to be run once the other
+	 * threads are done. The rectangle should include a margin around the cells being worked on
+	 * for anything they do to their neighbours, and mustn't overlap any rectangle worked on at
+	 * the same time.
+	 *
+	 * @param map the GameMap the work belongs to
+	 * @param left the smallest X coordinate the work may change
+	 * @param top the smallest Y coordinate the work may change
+	 * @param right the largest X coordinate the work may change
+	 * @param bottom the largest Y coordinate the work may change
+	 * @param work the work, e.g. ticking the Locations of the rectangle
+	 * @return applies the held-back changes, in the order they were made, when run
+	 */
+	public Runnable runConfinedTo(GameMap map, int left, int top, int right, int bottom, Runnable work) {
+		Confinement region = new Confinement(map, left, top, right, bottom);
+		runConfined(region, work);
+		return region::applyUpdates;
+	}
+
+	/**
+	 * Finishes a parallel tick, applying the held-back updates of each GameMap in turn.
+	 * <p>
+	 * The GameMaps go in the order given to {@link #beginParallelTick(List)}, and each
+	 * GameMap's updates in the order they were made, so the resulting turn order is the same
+	 * as if the GameMaps had been ticked one after another.
+	 */
+	public void endParallelTick() {
+		Map<GameMap, Confinement> confinements = mapConfinements;
+		mapConfinements = null;
+		if (confinements == null)
+			return;
+
+		for (Confinement mapConfinement : confinements.values()) {
+			mapConfinement.applyUpdates();
+		}
+	}
+
+	/**
+	 * Runs work on the current thread under a confinement, restoring the previous one afterwards.
+	 * A thread that is waiting for other tasks may pick up one of them, hence the restore.
+	 *
+	 * @param newConfinement the confinement to work under
+	 * @param work the work
+	 */
+	private void runConfined(Confinement newConfinement, Runnable work) {
+		Confinement previous = confinement.get();
+		confinement.set(newConfinement);
+		try {
+			work.run();
+		} finally {
+			if (previous != null)
+				confinement.set(previous);
+			else
+				confinement.remove();
+		}
+	}
+
+	/**
+	 * Adds a newly placed Actor to its GameMap's list of Actors and to the turn order,
+	 * holding back whatever the current thread can't change yet.
+	 *
+	 * @param entry the Actor's entry
+	 */
+	private void register(TurnEntry entry) {
+		Confinement current = confinement.get();
+		if (current != null && !current.wholeMap) {
+			current.defer(() -> register(entry));
+			return;
+		}
+		if (entry.removed)
+			return;
+
+		membersOf(entry.location.map()).add(entry.actor);
+		if (current != null)
+			current.defer(() -> enlist(entry));
+		else
+			enlist(entry);
+	}
+
+	/**
+	 * Takes a removed Actor off its GameMap's list of Actors and out of the turn order,
+	 * holding back whatever the current thread can't change yet.
+	 *
+	 * @param entry the Actor's entry
+	 */
+	private void unregister(TurnEntry entry) {
+		Confinement current = confinement.get();
+		if (current != null && !current.wholeMap) {
+			current.defer(() -> unregister(entry));
+			return;
+		}
+
+		membersOf(entry.location.map()).remove(entry.actor);
+		if (current != null)
+			current.defer(() -> delist(entry));
+		else
+			delist(entry);
+	}
+
+	/**
+	 * Gives a newly placed Actor its place in the turn order.
+	 *
+	 * @param entry the Actor's entry
+	 */
+	private void enlist(TurnEntry entry) {
+		if (entry.removed)
+			return;
 
-		Location oldLocation = actorToLocation.get(actor);
-		actorToLocation.put(actor, newLocation);
-		locationToActor.remove(oldLocation);
-		locationToActor.put(newLocation, actor);
+		entry.sequence = nextSequence++;
+		if (entry.actor == player)
+			playerEntry = entry;
+		else
+			append(entry);
+	}
+
+	/**
+	 * Takes a removed Actor out of the turn order.
+	 *
+	 * @param entry the Actor's entry
+	 */
+	private void delist(TurnEntry entry) {
+		if (entry == playerEntry)
+			playerEntry = null;
+		else if (entry.linked)
+			unlink(entry);
 	}
 
 	/**
@@ -94,7 +357,81 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return true if and only if actor is somewhere in the system
 	 */
 	public boolean contains(Actor actor) {
-		return actorToLocation.containsKey(actor);
+		return entryOf(actor) != null;
+	}
+
+	/**
+	 * Returns the Actors currently on the given GameMap.
+	 * <p>
+	 * The returned collection is a read-only view that is kept up to date as Actors are
+	 * added, moved and removed, so copy it before modifying the system while iterating.
+	 *
+	 * @param map the GameMap to look at
+	 * @return an unmodifiable view of the Actors on map
+	 */
+	public Collection<Actor> actorsOn(GameMap map) {
+		return Collections.unmodifiableSet(membersOf(map));
+	}
+
+	/**
+	 * Returns the membership set for a GameMap, creating it the first time the map is seen.
+	 *
+	 * @param map the GameMap
+	 * @return the mutable set of Actors on map
+	 */
+	private Set<Actor> membersOf(GameMap map) {
+		return actorsByMap.computeIfAbsent(map, key -> new LinkedHashSet<Actor>());
+	}
+
+	/**
+	 * Returns the entry for an Actor placed by this object.
+	 *
+	 * @param actor the Actor
+	 * @return the Actor's entry, or null if this object hasn't placed it
+	 */
+	private TurnEntry entryOf(Actor actor) {
+		TurnEntry entry = actor.turnEntry;
+		return entry != null && entry.owner == this ? entry : null;
+	}
+
+	/**
+	 * Returns the occupancy grid of the GameMap a Location belongs to.
+	 *
+	 * @param location the Location
+	 * @return the grid to read or write location's occupant in
+	 */
+	private static OccupancyGrid gridOf(Location location) {
+		return location.map().occupancy();
+	}
+
+	/**
+	 * Adds an entry to the end of the turn order.
+	 *
+	 * @param entry the entry to add
+	 */
+	private void append(TurnEntry entry) {
+		entry.prev = turnTail;
+		entry.next = null;
+		turnTail.next = entry;
+		turnTail = entry;
+		entry.linked = true;
+	}
+
+	/**
+	 * Takes an entry out of the turn order.
+	 * <p>
+	 * The entry keeps its own next pointer, so an ActorIterator that has just returned it
+	 * can still find its way to the rest of the list.
+	 *
+	 * @param entry the entry to unlink
+	 */
+	private void unlink(TurnEntry entry) {
+		entry.prev.next = entry.next;
+		if (entry.next != null)
+			entry.next.prev = entry.prev;
+		else
+			turnTail = entry.prev;
+		entry.linked = false;
 	}
 
 	/**
@@ -104,7 +441,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return true if and only if an Actor is at the given Location.
 	 */
 	public boolean isAnActorAt(Location location) {
-		return locationToActor.containsKey(location);
+		return getActorAt(location) != null;
 	}
 
 	/**
@@ -114,7 +451,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return a reference to the Actor, or null if there isn't one 
 	 */
 	public Actor getActorAt(Location location) {
-		return locationToActor.get(location);
+		return gridOf(location).get(location.x(), location.y());
 	}
 
 	/**
@@ -123,31 +460,117 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return the Location containing actor
 	 */
 	public Location locationOf(Actor actor) {
-		return actorToLocation.get(actor);
+		TurnEntry entry = entryOf(actor);
+		return entry != null ? entry.location : null;
+	}
+
+	/**
+	 * A node in the turn order: a doubly-linked list of every Actor except the player,
+	 * in the order they were added. Also records where the Actor is, and the Actor keeps
+	 * a reference back to it.
+	 */
+	static class TurnEntry {
+		/**
+		 * The object that placed the Actor
+		 */
+		final ActorLocationsIterator owner;
+		final Actor actor;
+		/**
+		 * When this entry was added, relative to the other entries
+		 */
+		long sequence;
+		Location location;
+		boolean removed;
+		/**
+		 * Whether the entry is currently in the turn order list
+		 */
+		boolean linked;
+		TurnEntry prev;
+		TurnEntry next;
+
+		TurnEntry(ActorLocationsIterator owner, Actor actor) {
+			this.owner = owner;
+			this.actor = actor;
+		}
+	}
+
+	/**
+	 * The part of the system one thread may change straight away while others are working
+	 * on the rest, along with the changes it has had to hold back.
+	 */
+	private static class Confinement {
+		final GameMap map;
+		/**
+		 * Whether the whole GameMap is covered, including its list of Actors
+		 */
+		final boolean wholeMap;
+		final int left, top, right, bottom;
+		final List<Runnable> updates = new ArrayList<Runnable>();
+
+		Confinement(GameMap map) {
+			this.map = map;
+			this.wholeMap = true;
+			this.left = Integer.MIN_VALUE;
+			this.top = Integer.MIN_VALUE;
+			this.right = Integer.MAX_VALUE;
+			this.bottom = Integer.MAX_VALUE;
+		}
+
+		Confinement(GameMap map, int left, int top, int right, int bottom) {
+			this.map = map;
+			this.wholeMap = false;
+			this.left = left;
+			this.top = top;
+			this.right = right;
+			this.bottom = bottom;
+		}
+
+		boolean covers(Location location) {
+			return location.map() == map
+					&& location.x() >= left && location.x() <= right
+					&& location.y() >= top && location.y() <= bottom;
+		}
+
+		void defer(Runnable update) {
+			updates.add(update);
+		}
+
+		void applyUpdates() {
+			for (Runnable update : updates) {
+				update.run();
+			}
+			updates.clear();
+		}
 	}
 
 	/**
 	 * Class to allow iterating over all Actors in the system, player first
 	 * This allows Actors to take turns in a known order.
+	 * <p>
+	 * Walks the turn order directly rather than copying it. Actors removed while iterating
+	 * are skipped, and Actors added while iterating have to wait until the next iterator.
 	 */
 	class ActorIterator implements Iterator<Actor> {
-		Map<Actor, Location> actorLocations;
-		List<Actor> actors;
+		/**
+		 * Entries with this sequence number or later were added after the iterator was made
+		 */
+		private final long roundEnd;
+		/**
+		 * The player's entry, until the player has been returned
+		 */
+		private TurnEntry pendingPlayer;
+		/**
+		 * The last entry returned, or the sentinel
+		 */
+		private TurnEntry cursor;
 
 		/**
 		 * Constructor.
-		 *
-		 * @param actorLocations the collection of mappings between Actors and Locations
 		 */
-		public ActorIterator(Map<Actor, Location> actorLocations) {
-			this.actorLocations = actorLocations;
-			actors = new ArrayList<Actor>(actorLocations.keySet());
-			
-			// Make sure the player is first. 
-			if(actors.contains(player)) {
-				actors.remove(player);
-				actors.add(0, player);
-			}
+		public ActorIterator() {
+			roundEnd = nextSequence;
+			pendingPlayer = playerEntry;
+			cursor = turnHead;
 		}
 
 		/**
@@ -156,12 +579,21 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		 */
 		@Override
 		public boolean hasNext() {
-			for (Actor actor : actors) {
-				if (actorLocations.containsKey(actor))
+			if (pendingPlayer != null) {
+				if (!pendingPlayer.removed)
 					return true;
+				pendingPlayer = null;
+			}
+
+			// Step over anything removed since; the cursor never needs to come back to it
+			TurnEntry entry = cursor.next;
+			while (entry != null && entry.removed) {
+				cursor = entry;
+				entry = entry.next;
 			}
 
-			return false;
+			// New entries only ever go on the end, so the first one reached ends the round
+			return entry != null && entry.sequence < roundEnd;
 		}
 
 		/**
@@ -169,13 +601,17 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		 */
 		@Override
 		public Actor next() {
-			while (!actors.isEmpty()) {
-				Actor actor = actors.remove(0);
-				if (actorLocations.containsKey(actor))
-					return actor;
+			if (!hasNext())
+				throw new ConcurrentModificationException();
+
+			if (pendingPlayer != null) {
+				Actor actor = pendingPlayer.actor;
+				pendingPlayer = null;
+				return actor;
 			}
 
-			throw new ConcurrentModificationException();
+			cursor = cursor.next;
+			return cursor.actor;
 		}
 	}
 
@@ -184,6 +620,6 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 */
 	@Override
 	public Iterator<Actor> iterator() {
-		return new ActorIterator(actorToLocation);
+		return new ActorIterator();
 	}
 }
@@ -2,6 +2,7 @@ package edu.monash.fit2099.engine.actors;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 
 /**
  * Created by:
@@ -33,4 +34,31 @@ public interface Behaviour {
 	 * @return an Action that actor can perform, or null if actor can't do this.
 	 */
 	Action getAction(Actor actor, GameMap map);
+
+	/**
+	 * Same as {@link #getAction(Actor, GameMap)}, but with the Actor's surroundings already
+	 * worked out, so that several Behaviours can share them (see {@link GameMap#surroundingsOf(Actor)}).
+	 * Behaviours that look at the adjacent squares should override this one.
+	 *
+	 * @param actor the Actor acting
+	 * @param map the GameMap containing the Actor
+	 * @param surroundings what is around the Actor this turn
+	 * @return an Action that actor can perform, or null if actor can't do this.
+	 */
+	default Action getAction(Actor actor, GameMap map, Neighbourhood surroundings) {
+		return getAction(actor, map);
+	}
+
+	/**
+	 * Whether {@link #getAction(Actor, GameMap)} only looks at the world, so that it can be
+	 * asked on another thread while other Actors are deciding what to do.
+	 *
+	 * Changing this Behaviour's own fields is fine, but changing anything else (including the
+	 * Actor, or another Actor) is not.
+	 *
+	 * @return true if it is safe to plan with this Behaviour concurrently; false by default
+	 */
+	default boolean canPlanConcurrently() {
+		return false;
+	}
 }
@@ -0,0 +1,169 @@
+package edu.monash.fit2099.engine.actors;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Records which Actor, if any, is standing at each position of one GameMap.
+ * <p>
+ * The positions are stored row by row in a flat array, so finding the occupant of a
+ * Location is a single array load. Only {@link ActorLocationsIterator} changes the grid;
+ * everything else should go through the GameMap.
+ * <p>
+ * The grid is also divided into square buckets of {@link #BUCKET_SIZE} positions a side, and
+ * the number of Actors in each bucket is kept up to date as Actors come, go and move.  Looking
+ * for Actors in an area only has to look at the positions in buckets that have any, so it
+ * stays cheap on a big map however many Actors there are elsewhere.  Distances are counted in
+ * moves, diagonal moves included, i.e. the Actors within 1 of a position are the ones next to it.
+ */
+public class OccupancyGrid {
+	/**
+	 * The width and height of a bucket, in positions; a power of two
+	 */
+	public static final int BUCKET_SIZE = 8;
+	private static final int BUCKET_SHIFT = 3;
+
+	/**
+	 * The occupant of (x, y) is at index x + y * width
+	 */
+	private final Actor[] occupants;
+	private final int width;
+	private final int height;
+	/**
+	 * The number of buckets in a row of buckets
+	 */
+	private final int bucketsAcross;
+	private final int bucketsDown;
+	/**
+	 * The number of Actors in each bucket, row by row.  Atomic, as separate parts of a
+	 * GameMap can be changed on separate threads during a parallel tick.
+	 */
+	private final AtomicIntegerArray bucketCounts;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param width width of the GameMap, in characters
+	 * @param height height of the GameMap, in characters
+	 */
+	public OccupancyGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.occupants = new Actor[width * height];
+		bucketsAcross = (width + BUCKET_SIZE - 1) >> BUCKET_SHIFT;
+		bucketsDown = (height + BUCKET_SIZE - 1) >> BUCKET_SHIFT;
+		bucketCounts = new AtomicIntegerArray(bucketsAcross * bucketsDown);
+	}
+
+	/**
+	 * Returns the Actor at the given coordinates.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the Actor at (x, y), or null if there isn't one
+	 */
+	public Actor get(int x, int y) {
+		return occupants[x + y * width];
+	}
+
+	/**
+	 * Adds every Actor within a distance of the given coordinates to a list, row by row.
+	 * The Actor at (x, y) itself, if there is one, is included.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @param radius the greatest distance, in moves
+	 * @param into the list to add the Actors to
+	 * @throws IllegalArgumentException if radius is negative
+	 */
+	public void collectWithin(int x, int y, int radius, List<Actor> into) {
+		if (radius < 0)
+			throw new IllegalArgumentException("The radius can't be negative");
+		int left = Math.max(0, x - radius);
+		int right = Math.min(width - 1, x + radius);
+		int top = Math.max(0, y - radius);
+		int bottom = Math.min(height - 1, y + radius);
+
+		for (int row = top; row <= bottom; row++) {
+			int bucketRow = (row >> BUCKET_SHIFT) * bucketsAcross;
+			int column = left;
+			while (column <= right) {
+				int bucketEnd = Math.min(right, column | (BUCKET_SIZE - 1));
+				if (bucketCounts.get(bucketRow + (column >> BUCKET_SHIFT)) != 0) {
+					for (int index = column + row * width; column <= bucketEnd; column++, index++) {
+						if (occupants[index] != null)
+							into.add(occupants[index]);
+					}
+				}
+				column = bucketEnd + 1;
+			}
+		}
+	}
+
+	/**
+	 * Finds the closest Actor with a capability to the given coordinates.  Buckets are searched
+	 * in rings, nearest first, and the search stops as soon as no unsearched bucket can hold
+	 * anything closer.  Of several Actors at the same distance, the first row by row wins.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @param capability the capability the Actor must have
+	 * @return the nearest Actor with the capability, which may be the one at (x, y), or null if there is none
+	 */
+	public Actor nearestWith(int x, int y, Enum<?> capability) {
+		int bucketX = x >> BUCKET_SHIFT;
+		int bucketY = y >> BUCKET_SHIFT;
+		int lastRing = Math.max(Math.max(bucketX, bucketsAcross - 1 - bucketX), Math.max(bucketY, bucketsDown - 1 - bucketY));
+
+		Actor nearest = null;
+		int nearestDistance = Integer.MAX_VALUE;
+		int nearestIndex = Integer.MAX_VALUE;
+		for (int ring = 0; ring <= lastRing; ring++) {
+			for (int by = Math.max(0, bucketY - ring); by <= Math.min(bucketsDown - 1, bucketY + ring); by++) {
+				// Rows of buckets on the edge of the ring are searched all the way along, the others only at either end
+				boolean edge = by == bucketY - ring || by == bucketY + ring;
+				int step = edge || ring == 0 ? 1 : 2 * ring;
+				for (int bx = bucketX - ring; bx <= bucketX + ring; bx += step) {
+					if (bx < 0 || bx >= bucketsAcross || bucketCounts.get(bx + by * bucketsAcross) == 0)
+						continue;
+
+					int bottom = Math.min(height, (by + 1) << BUCKET_SHIFT);
+					int right = Math.min(width, (bx + 1) << BUCKET_SHIFT);
+					for (int row = by << BUCKET_SHIFT; row < bottom; row++) {
+						for (int column = bx << BUCKET_SHIFT; column < right; column++) {
+							int index = column + row * width;
+							Actor actor = occupants[index];
+							if (actor == null || !actor.hasCapability(capability))
+								continue;
+							int distance = Math.max(Math.abs(column - x), Math.abs(row - y));
+							if (distance < nearestDistance || (distance == nearestDistance && index < nearestIndex)) {
+								nearest = actor;
+								nearestDistance = distance;
+								nearestIndex = index;
+							}
+						}
+					}
+				}
+			}
+			// Everything in the next ring is at least ring * BUCKET_SIZE + 1 away
+			if (nearest != null && nearestDistance <= ring * BUCKET_SIZE)
+				break;
+		}
+		return nearest;
+	}
+
+	/**
+	 * Sets or clears the Actor at the given coordinates.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @param actor the new occupant, or null to leave (x, y) empty
+	 */
+	void set(int x, int y, Actor actor) {
+		int index = x + y * width;
+		Actor previous = occupants[index];
+		occupants[index] = actor;
+		if ((previous == null) != (actor == null))
+			bucketCounts.addAndGet((x >> BUCKET_SHIFT) + (y >> BUCKET_SHIFT) * bucketsAcross, actor == null ? -1 : 1);
+	}
+}
@@ -8,10 +8,24 @@ import edu.monash.fit2099.engine.positions.Location;
  * The item might attach a Poison object to the actor's status effect list
  * to deal damage over time. After a certain amount of turns, the status
  * effect can remove itself from the actor's list of status effects.
+ * <p>
+ * By default a status effect is ticked every turn.  An effect that only needs to do something
+ * now and then, e.g. when it runs out, can say how long it can wait with
+ * {@link #ticksUntilNextUpdate()}; it is then only ticked when that time comes, and told how
+ * many turns have gone by (see {@link StatusEffectScheduler}).  A status effect belongs to
+ * one actor at a time.
  */
 public abstract class StatusEffect {
     private final String name;
 
+    // Kept by the Actor holding the effect and the StatusEffectScheduler
+    Actor owner;
+    int sequence;
+    StatusEffectScheduler scheduler;
+    long lastUpdate;
+    long due;
+    boolean queued;
+
     public StatusEffect(String name) {
         this.name = name;
     }
@@ -24,6 +38,51 @@ public abstract class StatusEffect {
      */
     public void tick(Location location, Actor actor) {}
 
+    /**
+     * Inform a status effect of the passage of several turns at once.  This is called instead of
+     * {@link #tick(Location, Actor)} when the effect asked to wait (see {@link #ticksUntilNextUpdate()}).
+     * By default it calls {@link #tick(Location, Actor)} once per turn.
+     *
+     * @param location the location where the actor with the status effect is currently standing
+     * @param actor the actor holding the status effect
+     * @param elapsed the number of turns since the effect was last ticked, including this one
+     */
+    public void tick(Location location, Actor actor, int elapsed) {
+        for (int i = 0; i < elapsed; i++) {
+            tick(location, actor);
+        }
+    }
+
+    /**
+     * Returns how many turns from now the effect next needs to be ticked.  It is asked again
+     * each time it has been ticked.  By default this is 1, i.e. every turn.
+     *
+     * @return the number of turns until the effect has something to do, at least 1
+     */
+    public int ticksUntilNextUpdate() {
+        return 1;
+    }
+
+    /**
+     * Returns the number of turns that have gone by since the effect was last ticked,
+     * i.e. the turns it hasn't been told about yet.
+     *
+     * @return the number of turns since the last tick, or 0 if it hasn't been ticked yet
+     */
+    protected final int ticksSinceLastUpdate() {
+        StatusEffectScheduler current = scheduler;
+        return current == null ? 0 : (int) (current.now() - lastUpdate);
+    }
+
+    /**
+     * Asks {@link #ticksUntilNextUpdate()} again, e.g. after the effect has been changed from outside.
+     * Any turns that have gone by since the last tick are forgotten, so take them into account first.
+     */
+    protected final void rescheduleUpdate() {
+        if (scheduler != null && owner != null)
+            scheduler.schedule(this);
+    }
+
     @Override
     public String toString() {
         return name;
@@ -0,0 +1,115 @@
+package edu.monash.fit2099.engine.actors;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps track of when each StatusEffect next needs to be ticked, so that effects with nothing
+ * to do between now and then cost nothing.
+ * <p>
+ * This is a timing wheel: a ring of slots, one per tick, each holding the effects due on that
+ * tick.  An effect due further away than the ring goes round stays in its slot until its turn
+ * comes round.  Every tick of the World, {@link #advance()} moves the wheel on one slot and
+ * hands the effects in it to the Actors holding them; each Actor's due effects are then ticked
+ * by {@link #tickDue(Actor)} when its GameMap ticks, in the order they were added to it.
+ * <p>
+ * An effect that has just been added to an Actor is due the next time the Actor is ticked,
+ * so it is ticked then just as it would be if every effect were ticked every time.
+ */
+public class StatusEffectScheduler {
+
+	/**
+	 * The number of slots in the wheel; a power of two
+	 */
+	private static final int SLOTS = 64;
+
+	private static final Comparator<StatusEffect> BY_SEQUENCE = Comparator.comparingInt(effect -> effect.sequence);
+
+	private final ActorLocationsIterator actorLocations;
+	private final List<List<StatusEffect>> slots = new ArrayList<List<StatusEffect>>(SLOTS);
+	/**
+	 * The number of ticks so far
+	 */
+	private volatile long now = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param actorLocations where the Actors whose effects are ticked are
+	 */
+	public StatusEffectScheduler(ActorLocationsIterator actorLocations) {
+		this.actorLocations = actorLocations;
+		for (int i = 0; i < SLOTS; i++) {
+			slots.add(new ArrayList<StatusEffect>());
+		}
+	}
+
+	/**
+	 * Returns the number of ticks so far, i.e. the number of times {@link #advance()} has been called.
+	 *
+	 * @return the current tick
+	 */
+	public long now() {
+		return now;
+	}
+
+	/**
+	 * Moves on to the next tick, and hands every effect that is due then to the Actor holding it.
+	 */
+	public synchronized void advance() {
+		long tick = ++now;
+		List<StatusEffect> slot = slots.get((int) (tick & (SLOTS - 1)));
+		int kept = 0;
+		for (StatusEffect effect : slot) {
+			if (effect.due > tick) {
+				slot.set(kept++, effect);
+			} else if (effect.due == tick && effect.owner != null && !effect.queued) {
+				effect.queued = true;
+				effect.owner.dueEffects.add(effect);
+			}
+			// Otherwise it has been rescheduled, removed or handed over already
+		}
+		slot.subList(kept, slot.size()).clear();
+	}
+
+	/**
+	 * Ticks the effects of an Actor that are due, and works out when each of them is next due.
+	 * Effects added while this is going on have to wait until the next time.
+	 *
+	 * @param actor the Actor whose effects to tick
+	 */
+	public void tickDue(Actor actor) {
+		List<StatusEffect> due = actor.dueEffects;
+		if (due.isEmpty())
+			return;
+
+		due.sort(BY_SEQUENCE);
+		int count = due.size();
+		long tick = now;
+		for (int i = 0; i < count; i++) {
+			StatusEffect effect = due.get(i);
+			effect.queued = false;
+			if (effect.owner != actor || effect.due > tick)
+				continue;
+
+			int elapsed = effect.scheduler == null ? 1 : (int) (tick - effect.lastUpdate);
+			effect.tick(actorLocations.locationOf(actor), actor, elapsed);
+			if (effect.owner == actor && effect.due <= tick)
+				schedule(effect);
+		}
+		due.subList(0, count).clear();
+	}
+
+	/**
+	 * Records that an effect is up to date now, and puts it in the slot of the tick it next needs attention.
+	 *
+	 * @param effect the effect, which must be held by an Actor
+	 */
+	synchronized void schedule(StatusEffect effect) {
+		effect.scheduler = this;
+		effect.lastUpdate = now;
+		effect.due = now + Math.max(1, effect.ticksUntilNextUpdate());
+		slots.get((int) (effect.due & (SLOTS - 1))).add(effect);
+	}
+}
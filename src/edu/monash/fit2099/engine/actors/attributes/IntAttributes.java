@@ -0,0 +1,172 @@
+package edu.monash.fit2099.engine.actors.attributes;
+
+import java.util.Arrays;
+
+/**
+ * A set of whole-number attributes, such as health and stamina, kept in plain int arrays.
+ * <p>
+ * Each attribute has current and maximum points that follow the same rules as a
+ * {@link BaseActorAttribute}, but nothing is boxed and looking one up is an array index rather
+ * than a hash. Every enum class that is used to name an attribute is given its own range of
+ * slots the first time it is seen, so an attribute's slot is that range's start plus its ordinal.
+ */
+public class IntAttributes {
+
+    /**
+     * The first slot not yet given to an enum class
+     */
+    private static int nextFreeSlot = 0;
+
+    /**
+     * The first slot of each enum class's range
+     */
+    private static final ClassValue<Integer> FIRST_SLOT = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            synchronized (IntAttributes.class) {
+                int first = nextFreeSlot;
+                nextFreeSlot += type.getEnumConstants().length;
+                return first;
+            }
+        }
+    };
+
+    private int[] points = new int[0];
+    private int[] maximums = new int[0];
+    private boolean[] present = new boolean[0];
+
+    /**
+     * Returns the slot that holds an attribute.
+     *
+     * @param name the name of the attribute
+     * @return its slot
+     */
+    private static int slotOf(Enum<?> name) {
+        return FIRST_SLOT.get(name.getDeclaringClass()) + name.ordinal();
+    }
+
+    /**
+     * Returns the slot that holds an attribute, which must be present.
+     *
+     * @param name the name of the attribute
+     * @return its slot
+     * @throws IllegalArgumentException if there is no such attribute
+     */
+    private int presentSlotOf(Enum<?> name) {
+        int slot = slotOf(name);
+        if (slot >= present.length || !present[slot])
+            throw new IllegalArgumentException("No attribute named " + name);
+        return slot;
+    }
+
+    /**
+     * Returns true if there is an attribute with this name.
+     *
+     * @param name the name of the attribute
+     * @return true if it is present
+     */
+    public boolean has(Enum<?> name) {
+        int slot = slotOf(name);
+        return slot < present.length && present[slot];
+    }
+
+    /**
+     * Adds an attribute, replacing any that already has this name.
+     *
+     * @param name          the name of the attribute
+     * @param points        its current points
+     * @param maximumPoints its maximum points
+     */
+    public void add(Enum<?> name, int points, int maximumPoints) {
+        int slot = slotOf(name);
+        if (slot >= present.length) {
+            int length = Math.max(slot + 1, present.length * 2);
+            this.points = Arrays.copyOf(this.points, length);
+            maximums = Arrays.copyOf(maximums, length);
+            present = Arrays.copyOf(present, length);
+        }
+        this.points[slot] = points;
+        maximums[slot] = maximumPoints;
+        present[slot] = true;
+    }
+
+    /**
+     * Removes an attribute, if there is one with this name.
+     *
+     * @param name the name of the attribute
+     */
+    public void remove(Enum<?> name) {
+        int slot = slotOf(name);
+        if (slot < present.length)
+            present[slot] = false;
+    }
+
+    /**
+     * Returns the current points of an attribute.
+     *
+     * @param name the name of the attribute
+     * @return its current points
+     * @throws IllegalArgumentException if there is no such attribute
+     */
+    public int get(Enum<?> name) {
+        return points[presentSlotOf(name)];
+    }
+
+    /**
+     * Returns the maximum points of an attribute.
+     *
+     * @param name the name of the attribute
+     * @return its maximum points
+     * @throws IllegalArgumentException if there is no such attribute
+     */
+    public int getMaximum(Enum<?> name) {
+        return maximums[presentSlotOf(name)];
+    }
+
+    /**
+     * Changes the current points of an attribute.  The points never go above the maximum,
+     * and never go below 0 when decreased.
+     *
+     * @param name      the name of the attribute
+     * @param operation whether to increase, decrease or overwrite the points
+     * @param value     the amount
+     * @throws IllegalArgumentException if there is no such attribute or the operation is null
+     */
+    public void modify(Enum<?> name, ActorAttributeOperations operation, int value) {
+        int slot = presentSlotOf(name);
+        if (operation == ActorAttributeOperations.INCREASE) {
+            points[slot] = Math.min(points[slot] + value, maximums[slot]);
+        } else if (operation == ActorAttributeOperations.DECREASE) {
+            points[slot] = Math.max(points[slot] - value, 0);
+        } else if (operation == ActorAttributeOperations.UPDATE) {
+            points[slot] = Math.min(value, maximums[slot]);
+        } else {
+            throw new IllegalArgumentException("Invalid operation for modifying the value of actor's attribute.");
+        }
+    }
+
+    /**
+     * Changes the maximum points of an attribute.  Increasing or overwriting the maximum also
+     * refills the current points; decreasing it only brings them down to the new maximum.
+     *
+     * @param name      the name of the attribute
+     * @param operation whether to increase, decrease or overwrite the maximum
+     * @param value     the amount
+     * @throws IllegalArgumentException if there is no such attribute or the operation is null
+     */
+    public void modifyMaximum(Enum<?> name, ActorAttributeOperations operation, int value) {
+        int slot = presentSlotOf(name);
+        if (operation == ActorAttributeOperations.INCREASE) {
+            maximums[slot] += value;
+            points[slot] = maximums[slot];
+        } else if (operation == ActorAttributeOperations.DECREASE) {
+            maximums[slot] -= value;
+            points[slot] = Math.min(points[slot], maximums[slot]);
+        } else if (operation == ActorAttributeOperations.UPDATE) {
+            maximums[slot] = value;
+            points[slot] = maximums[slot];
+        } else {
+            throw new IllegalArgumentException("Invalid operation for modifying the maximum value of actor's attribute.");
+        }
+    }
+}
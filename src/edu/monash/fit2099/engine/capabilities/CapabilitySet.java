@@ -1,9 +1,9 @@
 package edu.monash.fit2099.engine.capabilities;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * A collection of Capability objects.
@@ -11,14 +11,58 @@ import java.util.stream.Collectors;
  * whether Items provided (or required) certain abilities, whether terrain was passable under particular
  * circumstances, etc.  Consider Capabilities an all-purpose mechanism for enabling game capabilities, statuses, etc.
  * Don't be too literal about the name. You can keep all sorts of things in here.
- * PURPLE, FLAT, HOUSE_RAVENCLAW, TEAM_HERBIVORE, etc.  
+ * PURPLE, FLAT, HOUSE_RAVENCLAW, TEAM_HERBIVORE, etc.
  * Any Enum type can be used to represent a Capability, so these classes can and should be defined in the game client.
+ *
+ * Every capability is given a number the first time any CapabilitySet sees its enum class, and a set is
+ * stored as bits, so checking for a capability is a single AND.  The first 64 numbers live in one long,
+ * which is all most games need.
  */
 public class CapabilitySet {
+
+	/**
+	 * The number of the first capability of each enum class; the rest follow in ordinal order
+	 */
+	private static final ClassValue<Integer> FIRST_ID = new ClassValue<Integer>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			synchronized (CapabilitySet.class) {
+				Enum<?>[] constants = (Enum<?>[]) type.getEnumConstants();
+				int first = capabilitiesById.length;
+				Enum<?>[] grown = Arrays.copyOf(capabilitiesById, first + constants.length);
+				System.arraycopy(constants, 0, grown, first, constants.length);
+				capabilitiesById = grown;
+				return first;
+			}
+		}
+	};
+
+	/**
+	 * Every capability that has been given a number, indexed by it
+	 */
+	private static volatile Enum<?>[] capabilitiesById = new Enum<?>[0];
+
 	/**
-	 * The set of capability (uniques only)
+	 * Capabilities numbered 0 to 63
+	 */
+	private long bits;
+	/**
+	 * Capabilities numbered 64 and up, 64 to a word; null until one is added
+	 */
+	private long[] moreBits;
+	/**
+	 * Counts the changes made to this set
+	 */
+	private int version;
+
+	/**
+	 * Returns the number of a capability.
+	 * @param capability enum
+	 * @return its number
 	 */
-	private final Set<Enum<?>> capabilitySet = new HashSet<>();
+	private static int idOf(Enum<?> capability) {
+		return FIRST_ID.get(capability.getDeclaringClass()) + capability.ordinal();
+	}
 
 	/**
 	 * Check if this instance has capability
@@ -26,7 +70,7 @@ public class CapabilitySet {
 	 * @return true if it has the capability, false otherwise
 	 */
 	public boolean hasCapability(Enum<?> capability) {
-		return capabilitySet.contains(capability);
+		return hasId(idOf(capability));
 	}
 
 	/**
@@ -35,7 +79,16 @@ public class CapabilitySet {
 	 */
 	public void addCapability(Enum<?> capability) {
 		if(!hasCapability(capability)){
-			capabilitySet.add(capability);
+			int id = idOf(capability);
+			if (id < 64) {
+				bits |= 1L << id;
+			} else {
+				int word = (id >>> 6) - 1;
+				if (moreBits == null || word >= moreBits.length)
+					moreBits = moreBits == null ? new long[word + 1] : Arrays.copyOf(moreBits, word + 1);
+				moreBits[word] |= 1L << id;
+			}
+			changed();
 		}
 	}
 
@@ -45,8 +98,46 @@ public class CapabilitySet {
 	 */
 	public void removeCapability(Enum<?> capability) {
 		if(hasCapability(capability)){
-			capabilitySet.remove(capability);
+			int id = idOf(capability);
+			if (id < 64)
+				bits &= ~(1L << id);
+			else
+				moreBits[(id >>> 6) - 1] &= ~(1L << id);
+			changed();
+		}
+	}
+
+	/**
+	 * Adds every capability in another set to this one.
+	 * @param other the set to copy capabilities from
+	 */
+	public void addAll(CapabilitySet other) {
+		long[] otherMore = other.moreBits;
+		boolean grows = (other.bits & ~bits) != 0;
+		if (otherMore != null) {
+			if (moreBits == null || moreBits.length < otherMore.length)
+				moreBits = moreBits == null ? new long[otherMore.length] : Arrays.copyOf(moreBits, otherMore.length);
+			for (int i = 0; i < otherMore.length; i++) {
+				grows |= (otherMore[i] & ~moreBits[i]) != 0;
+				moreBits[i] |= otherMore[i];
+			}
 		}
+		bits |= other.bits;
+		if (grows)
+			changed();
+	}
+
+	/**
+	 * Returns a number that changes every time a capability is added to or removed from this set,
+	 * so that anything worked out from the set can tell when to work it out again.
+	 * @return the number of changes made so far
+	 */
+	public int version() {
+		return version;
+	}
+
+	private void changed() {
+		version++;
 	}
 
 	/**
@@ -54,7 +145,13 @@ public class CapabilitySet {
 	 * @return unmodifiable list of capabilities
 	 */
 	public List<Enum<?>> capabilitiesList(){
-		return List.copyOf(capabilitySet);
+		List<Enum<?>> capabilities = new ArrayList<>();
+		Enum<?>[] byId = capabilitiesById;
+		for (int id = 0; id < byId.length; id++) {
+			if (hasId(id))
+				capabilities.add(byId[id]);
+		}
+		return Collections.unmodifiableList(capabilities);
 	}
 
 	/**
@@ -65,9 +162,22 @@ public class CapabilitySet {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T extends Enum<?>> List<T> findCapabilitiesByType(Class<T> enumType){
-		return capabilitySet.stream()
-				.filter(c -> c.getDeclaringClass().equals(enumType))
-				.map(response -> (T) response)
-				.collect(Collectors.toList());
+		List<T> capabilities = new ArrayList<>();
+		if (!enumType.isEnum())
+			return capabilities;
+		int first = FIRST_ID.get(enumType);
+		Enum<?>[] byId = capabilitiesById;
+		for (int id = first; id < byId.length && byId[id].getDeclaringClass() == enumType; id++) {
+			if (hasId(id))
+				capabilities.add((T) byId[id]);
+		}
+		return capabilities;
+	}
+
+	private boolean hasId(int id) {
+		if (id < 64)
+			return (bits & (1L << id)) != 0;
+		int word = (id >>> 6) - 1;
+		return moreBits != null && word < moreBits.length && (moreBits[word] & (1L << id)) != 0;
 	}
 }
@@ -0,0 +1,136 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * A Display for terminals that understand ANSI escape codes, which keeps the map in a fixed
+ * place at the top of the screen and only redraws the characters that have changed.
+ *
+ * The first map drawn clears the screen and reserves the rows above the bottom of the map for
+ * it; everything else that is printed scrolls in the region underneath.  After that, each new
+ * frame is compared with the last one and only the cells that differ are rewritten, by moving
+ * the cursor to them.  If most of the map has changed it is cheaper to rewrite it all, so that
+ * is done instead.  Like any BufferedDisplay, nothing reaches the terminal until it is flushed.
+ *
+ * The scroll region is put back to normal when the program exits, or by calling release().
+ */
+public class AnsiDisplay extends BufferedDisplay {
+
+	/**
+	 * Control Sequence Introducer, which starts most ANSI escape codes
+	 */
+	private static final String CSI = "\u001b[";
+	/**
+	 * Runs of unchanged characters at most this long are rewritten rather than jumped over,
+	 * as moving the cursor takes more characters than that
+	 */
+	private static final int SHORT_GAP = 4;
+
+	/**
+	 * The frame that is on the screen, or null if the map hasn't been drawn yet
+	 */
+	private char[] previous;
+	private int previousWidth;
+	private int previousHeight;
+
+	/**
+	 * Constructor.
+	 */
+	public AnsiDisplay() {
+		Runtime.getRuntime().addShutdownHook(new Thread(this::release));
+	}
+
+	/**
+	 * Draws a frame, printing only what has changed since the last one.
+	 *
+	 * @param cells the characters, row by row
+	 * @param width the number of characters in a row
+	 * @param height the number of rows
+	 */
+	@Override
+	public void printGrid(char[] cells, int width, int height) {
+		int size = width * height;
+		if (previous == null || width != previousWidth || height != previousHeight) {
+			// A new map: clear the screen, and keep everything else below where it goes
+			buffer.append(CSI).append("2J");
+			buffer.append(CSI).append(height + 2).append(";r");
+			writeAll(cells, width, height);
+			moveTo(0, height + 1);
+			previous = new char[size];
+			previousWidth = width;
+			previousHeight = height;
+		} else {
+			int changed = 0;
+			for (int i = 0; i < size; i++) {
+				if (cells[i] != previous[i])
+					changed++;
+			}
+			if (changed == 0)
+				return;
+
+			buffer.append("\u001b7"); // save the cursor, which is somewhere in the scroll region
+			if (changed * 2 > size)
+				writeAll(cells, width, height);
+			else
+				writeChanges(cells, width, height);
+			buffer.append("\u001b8");
+		}
+		System.arraycopy(cells, 0, previous, 0, size);
+	}
+
+	/**
+	 * Puts the terminal's scroll region back to the whole screen and forgets the map, so that
+	 * the next frame is drawn from scratch.
+	 */
+	public void release() {
+		if (previous == null)
+			return;
+		buffer.append(CSI).append('r');
+		moveTo(0, previousHeight + 1);
+		flush();
+		previous = null;
+	}
+
+	/**
+	 * Adds every row of a frame to the buffer.
+	 */
+	private void writeAll(char[] cells, int width, int height) {
+		for (int y = 0; y < height; y++) {
+			moveTo(0, y);
+			buffer.append(cells, y * width, width);
+		}
+	}
+
+	/**
+	 * Adds the characters that differ from the previous frame to the buffer, with a cursor
+	 * movement before each run of them.
+	 */
+	private void writeChanges(char[] cells, int width, int height) {
+		for (int y = 0; y < height; y++) {
+			int rowStart = y * width;
+			int x = 0;
+			while (x < width) {
+				if (cells[rowStart + x] == previous[rowStart + x]) {
+					x++;
+					continue;
+				}
+				// x starts a run; carry it on past short gaps of unchanged characters
+				int end = x + 1;
+				int next = end;
+				while (next < width && next - end <= SHORT_GAP) {
+					if (cells[rowStart + next] != previous[rowStart + next])
+						end = next + 1;
+					next++;
+				}
+				moveTo(x, y);
+				buffer.append(cells, rowStart + x, end - x);
+				x = end;
+			}
+		}
+	}
+
+	/**
+	 * Adds a cursor movement to the buffer.  The terminal counts from 1; we count from 0.
+	 */
+	private void moveTo(int x, int y) {
+		buffer.append(CSI).append(y + 1).append(';').append(x + 1).append('H');
+	}
+}
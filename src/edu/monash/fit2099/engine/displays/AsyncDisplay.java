@@ -0,0 +1,237 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A Display that draws on another Display from a thread of its own, so that the game doesn't
+ * have to wait for the terminal.
+ *
+ * Everything printed between two flushes is collected into a {@link FrameSnapshot}.  Flushing
+ * hands the snapshot over to the render thread and returns straight away.  The render thread
+ * draws at most one frame per frame interval; if the game makes frames faster than that, the
+ * ones that haven't been drawn yet are skipped in favour of the newest.  This is meant for
+ * fast-forwarding or watching an unattended run, where the game shouldn't go at the speed of
+ * the terminal.
+ *
+ * Keys are read from a Display of their own.  If that is the same Display the frames are
+ * drawn on, readChar() waits until the latest frame is on the screen first, so that a person
+ * can see what they are answering; a script of keys (e.g. a HeadlessDisplay) doesn't wait.
+ *
+ * The map characters are copied into one of a few buffers that are passed back and forth
+ * between the two threads, so drawing doesn't allocate a new array every frame.
+ */
+public class AsyncDisplay extends Display {
+
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	private final Display screen;
+	private final Display keyboard;
+	private final long frameIntervalMillis;
+	private final Thread renderThread;
+
+	/**
+	 * The newest frame that hasn't been drawn yet, if any
+	 */
+	private final AtomicReference<FrameSnapshot> pending = new AtomicReference<FrameSnapshot>();
+	/**
+	 * A map buffer that nobody is using, ready for the next frame
+	 */
+	private final AtomicReference<char[]> spare = new AtomicReference<char[]>();
+	/**
+	 * Guards the counts below; the render thread waits on it for frames, readChar() for drawing
+	 */
+	private final Object lock = new Object();
+	private long framesPublished = 0;
+	private long framesDrawn = 0;
+	private boolean closed = false;
+
+	// The frame being put together; only touched by the game's thread
+	private final StringBuilder before = new StringBuilder();
+	private final StringBuilder after = new StringBuilder();
+	private char[] cells;
+	private int width;
+	private int height;
+
+	/**
+	 * Constructor for a Display that reads keys from the one it draws on.
+	 *
+	 * @param screen the Display to draw on, which should only be used by this one from now on
+	 * @param frameIntervalMillis the least time between two frames, in milliseconds
+	 */
+	public AsyncDisplay(Display screen, long frameIntervalMillis) {
+		this(screen, screen, frameIntervalMillis);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param screen the Display to draw on, which should only be used by this one from now on
+	 * @param keyboard the Display to read keys from
+	 * @param frameIntervalMillis the least time between two frames, in milliseconds
+	 * @throws IllegalArgumentException if frameIntervalMillis is negative
+	 */
+	public AsyncDisplay(Display screen, Display keyboard, long frameIntervalMillis) {
+		if (frameIntervalMillis < 0)
+			throw new IllegalArgumentException("The frame interval can't be negative");
+		this.screen = screen;
+		this.keyboard = keyboard;
+		this.frameIntervalMillis = frameIntervalMillis;
+		renderThread = new Thread(this::render, "render");
+		renderThread.setDaemon(true);
+		renderThread.start();
+	}
+
+	@Override
+	public void print(Printable printable) {
+		text().append(printable.getDisplayChar());
+	}
+
+	@Override
+	public void print(String s) {
+		text().append(s);
+	}
+
+	@Override
+	public void println(String s) {
+		text().append(s).append(LINE_SEPARATOR);
+	}
+
+	@Override
+	public void endLine() {
+		text().append(LINE_SEPARATOR);
+	}
+
+	/**
+	 * Copies the map into the frame being put together.  If a map has already been drawn in
+	 * this frame, the new one replaces it and the text after the old one goes before the new one.
+	 *
+	 * @param cells the characters, row by row
+	 * @param width the number of characters in a row
+	 * @param height the number of rows
+	 */
+	@Override
+	public void printGrid(char[] cells, int width, int height) {
+		if (this.cells != null) {
+			before.append(after);
+			after.setLength(0);
+		} else {
+			char[] buffer = spare.getAndSet(null);
+			this.cells = buffer != null && buffer.length == cells.length ? buffer : new char[cells.length];
+		}
+		System.arraycopy(cells, 0, this.cells, 0, cells.length);
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Hands the frame that has been put together to the render thread, without waiting for it to be drawn.
+	 */
+	@Override
+	public void flush() {
+		if (before.length() == 0 && cells == null && after.length() == 0)
+			return;
+
+		FrameSnapshot frame;
+		synchronized (lock) {
+			frame = new FrameSnapshot(++framesPublished, before.toString(), cells, width, height, after.toString());
+			FrameSnapshot skipped = pending.getAndSet(frame);
+			if (skipped != null && skipped.cells != null)
+				spare.set(skipped.cells);
+			lock.notifyAll();
+		}
+		before.setLength(0);
+		after.setLength(0);
+		cells = null;
+	}
+
+	/**
+	 * Reads a key from the keyboard Display, once the latest frame has been drawn if the
+	 * keyboard and screen are the same.
+	 *
+	 * @return the key
+	 */
+	@Override
+	public char readChar() {
+		flush();
+		if (keyboard == screen)
+			awaitDrawn();
+		return keyboard.readChar();
+	}
+
+	/**
+	 * Draws whatever hasn't been drawn yet and stops the render thread.
+	 */
+	public void close() {
+		flush();
+		synchronized (lock) {
+			closed = true;
+			lock.notifyAll();
+		}
+		try {
+			renderThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Waits until every frame handed over so far has been drawn or skipped.
+	 */
+	private void awaitDrawn() {
+		synchronized (lock) {
+			while (framesDrawn < framesPublished && renderThread.isAlive()) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns where text printed now goes: before the map if there isn't one yet in this frame, otherwise after it.
+	 */
+	private StringBuilder text() {
+		return cells == null ? before : after;
+	}
+
+	/**
+	 * The render thread: draws the newest frame, then waits out the rest of the frame interval, until closed.
+	 */
+	private void render() {
+		while (true) {
+			FrameSnapshot frame;
+			synchronized (lock) {
+				while ((frame = pending.getAndSet(null)) == null) {
+					if (closed)
+						return;
+					try {
+						lock.wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			}
+
+			long start = System.currentTimeMillis();
+			frame.drawOn(screen);
+			if (frame.cells != null)
+				spare.set(frame.cells);
+			synchronized (lock) {
+				framesDrawn = frame.number;
+				lock.notifyAll();
+			}
+
+			long remaining = frameIntervalMillis - (System.currentTimeMillis() - start);
+			if (remaining > 0) {
+				try {
+					Thread.sleep(remaining);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		}
+	}
+}
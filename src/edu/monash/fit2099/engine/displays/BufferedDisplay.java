@@ -0,0 +1,74 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.PrintWriter;
+
+/**
+ * A Display that collects everything it is asked to print and only sends it to the console
+ * when flushed.
+ *
+ * Printing straight to System.out costs a trip through a synchronized stream for every
+ * character of the map and every message.  This Display appends to a buffer instead, and
+ * flush() writes the lot in one go.  The World flushes after every round and readChar()
+ * flushes before waiting for a key, so the player always sees the whole frame before having
+ * to answer anything.
+ */
+public class BufferedDisplay extends Display {
+
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	/**
+	 * Everything printed since the last flush
+	 */
+	protected final StringBuilder buffer = new StringBuilder();
+	/**
+	 * Reused to hand the buffer to the console without making a String of it
+	 */
+	private char[] chars = new char[0];
+	/**
+	 * System.out, as something that can be given an array of chars
+	 */
+	private final PrintWriter console = new PrintWriter(System.out);
+
+	@Override
+	public void print(Printable printable) {
+		buffer.append(printable.getDisplayChar());
+	}
+
+	@Override
+	public void print(String s) {
+		buffer.append(s);
+	}
+
+	@Override
+	public void println(String s) {
+		buffer.append(s).append(LINE_SEPARATOR);
+	}
+
+	@Override
+	public void endLine() {
+		buffer.append(LINE_SEPARATOR);
+	}
+
+	@Override
+	public void printGrid(char[] cells, int width, int height) {
+		for (int y = 0; y < height; y++) {
+			buffer.append(cells, y * width, width).append(LINE_SEPARATOR);
+		}
+	}
+
+	/**
+	 * Writes everything printed since the last flush to the console, in one write.
+	 */
+	@Override
+	public void flush() {
+		int length = buffer.length();
+		if (length > 0) {
+			if (chars.length < length)
+				chars = new char[Math.max(length, chars.length * 2)];
+			buffer.getChars(0, length, chars, 0);
+			buffer.setLength(0);
+			console.write(chars, 0, length);
+		}
+		console.flush();
+	}
+}
@@ -1,5 +1,7 @@
 package edu.monash.fit2099.engine.displays;
 
+import edu.monash.fit2099.engine.actions.ActionResult;
+
 import java.util.Scanner;
 
 /**
@@ -8,9 +10,49 @@ import java.util.Scanner;
 public class Display  {
 
 	/**
-	 * Input
+	 * The Display the World is printing to on each thread, while it ticks the maps or plays a turn
+	 */
+	private static final ThreadLocal<Display> CURRENT = new ThreadLocal<Display>();
+
+	/**
+	 * Input, opened the first time a key is read
 	 */
-	private final Scanner keyboard = new Scanner(System.in);
+	private Scanner keyboard;
+
+	/**
+	 * Returns the Display to print to from code that has no Display to hand, such as a StatusEffect
+	 * or an Actor falling unconscious.
+	 *
+	 * While the World is ticking the maps or playing a turn, this is the World's Display (or one
+	 * recording for it), so what is printed comes out in order with everything else, and goes
+	 * nowhere if the World's Display shows nothing.  Otherwise it is a new Display that prints
+	 * straight to the console.
+	 *
+	 * @return the Display to print to
+	 */
+	public static Display current() {
+		Display display = CURRENT.get();
+		return display != null ? display : new Display();
+	}
+
+	/**
+	 * Runs some work with the given Display as the current one, restoring the previous one afterwards.
+	 *
+	 * @param display the Display to print to
+	 * @param work the work to do
+	 */
+	public static void runWith(Display display, Runnable work) {
+		Display previous = CURRENT.get();
+		CURRENT.set(display);
+		try {
+			work.run();
+		} finally {
+			if (previous != null)
+				CURRENT.set(previous);
+			else
+				CURRENT.remove();
+		}
+	}
 
 	/**
 	 * Display a displayable object.
@@ -38,6 +80,15 @@ public class Display  {
 		System.out.println(s);
 	}
 
+	/**
+	 * Prints what happened when an Action was performed and then terminates the line.
+	 * This is where the result's text is built.
+	 * @param result the result to print
+	 */
+	public void println(ActionResult result) {
+		println(result.render());
+	}
+
 	/**
 	 * Terminates the line.
 	 */
@@ -45,12 +96,42 @@ public class Display  {
 		System.out.println("");
 	}
 
+	/**
+	 * Display a rectangle of characters, such as a GameMap.
+	 *
+	 * The grid is passed row by row, so the character at (x, y) is {@code cells[x + y * width]}.
+	 * The caller may reuse the array once this returns, so a Display that needs the characters
+	 * later must copy them.  By default each row is printed as a line.
+	 *
+	 * @param cells the characters, row by row
+	 * @param width the number of characters in a row
+	 * @param height the number of rows
+	 */
+	public void printGrid(char[] cells, int width, int height) {
+		for (int y = 0; y < height; y++) {
+			print(new String(cells, y * width, width));
+			endLine();
+		}
+	}
+
+	/**
+	 * Makes sure everything printed so far has reached the screen.
+	 */
+	public void flush() {
+		System.out.flush();
+	}
+
 	/**
 	 * Read a char from the keyboard.
+	 *
+	 * Anything still waiting to be printed is flushed first, so the player can see what they are answering.
 	 * 
 	 * @return the first char of the next entered string.
 	 */
 	public char readChar() {
+		flush();
+		if (keyboard == null)
+			keyboard = new Scanner(System.in);
 		String s = keyboard.next();
 		return s.charAt(0);
 	}
@@ -0,0 +1,58 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * Everything that was printed between two flushes of a Display: the map, plus whatever text
+ * came before and after it.
+ *
+ * A FrameSnapshot never changes once it has been made, so the game can hand it to another
+ * thread to draw while it carries on with the next round (see {@link AsyncDisplay}).
+ */
+public final class FrameSnapshot {
+
+	/**
+	 * Where the frame comes in the sequence of frames made by one AsyncDisplay
+	 */
+	final long number;
+	private final String before;
+	/**
+	 * The map's characters, row by row, or null if no map was drawn
+	 */
+	final char[] cells;
+	private final int width;
+	private final int height;
+	private final String after;
+
+	/**
+	 * Constructor.  The cells are taken as they are, not copied, so the caller must not change them.
+	 *
+	 * @param number where the frame comes in the sequence
+	 * @param before text printed before the map
+	 * @param cells the map's characters, row by row, or null if there is no map
+	 * @param width the number of characters in a row of the map
+	 * @param height the number of rows in the map
+	 * @param after text printed after the map
+	 */
+	FrameSnapshot(long number, String before, char[] cells, int width, int height, String after) {
+		this.number = number;
+		this.before = before;
+		this.cells = cells;
+		this.width = width;
+		this.height = height;
+		this.after = after;
+	}
+
+	/**
+	 * Prints the frame on a Display, in the order it was originally printed, and flushes it.
+	 *
+	 * @param display the Display to print on
+	 */
+	public void drawOn(Display display) {
+		if (!before.isEmpty())
+			display.print(before);
+		if (cells != null)
+			display.printGrid(cells, width, height);
+		if (!after.isEmpty())
+			display.print(after);
+		display.flush();
+	}
+}
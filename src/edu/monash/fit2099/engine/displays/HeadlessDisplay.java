@@ -0,0 +1,88 @@
+package edu.monash.fit2099.engine.displays;
+
+import edu.monash.fit2099.engine.actions.ActionResult;
+
+/**
+ * A Display that throws away everything it is asked to print and answers keyboard
+ * prompts from a fixed script of keys.
+ *
+ * This lets the game loop run unattended, e.g. for soak tests or for measuring throughput
+ * on a machine with no terminal.  The script is replayed from the start once it runs out,
+ * so it should contain at least one key that is always on offer (e.g. "5", the hotkey of
+ * DoNothingAction) or a menu may keep asking forever.
+ */
+public class HeadlessDisplay extends Display {
+
+	/**
+	 * Keys to feed to readChar(), in order
+	 */
+	private final String keys;
+	/**
+	 * Index of the next key to hand out
+	 */
+	private int nextKey = 0;
+
+	/**
+	 * Constructor for a Display whose player always waits.
+	 */
+	public HeadlessDisplay() {
+		this("5");
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param keys the keys to return from readChar(), replayed in a loop
+	 * @throws IllegalArgumentException if keys is empty
+	 */
+	public HeadlessDisplay(String keys) {
+		if (keys == null || keys.isEmpty())
+			throw new IllegalArgumentException("A headless display needs at least one key to press");
+		this.keys = keys;
+	}
+
+	@Override
+	public void print(Printable printable) {
+	}
+
+	@Override
+	public void print(String s) {
+	}
+
+	@Override
+	public void println(String s) {
+	}
+
+	/**
+	 * Does nothing, so the result's text is never built.
+	 *
+	 * @param result the result that isn't printed
+	 */
+	@Override
+	public void println(ActionResult result) {
+	}
+
+	@Override
+	public void endLine() {
+	}
+
+	@Override
+	public void printGrid(char[] cells, int width, int height) {
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	/**
+	 * Returns the next key in the script.
+	 *
+	 * @return the next scripted key
+	 */
+	@Override
+	public char readChar() {
+		char key = keys.charAt(nextKey);
+		nextKey = (nextKey + 1) % keys.length();
+		return key;
+	}
+}
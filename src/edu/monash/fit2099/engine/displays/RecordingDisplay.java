@@ -0,0 +1,78 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A Display that remembers what it is asked to print so that it can be printed later on
+ * another Display.
+ *
+ * The World gives one of these to each Actor whose turn is being planned on another thread,
+ * then replays them in turn order, so the output comes out as if the turns had been taken
+ * one after another.  There is nobody to answer prompts, so readChar() can't be used.
+ */
+public class RecordingDisplay extends Display {
+
+	/**
+	 * The calls made so far, in order
+	 */
+	private final List<Consumer<Display>> calls = new ArrayList<Consumer<Display>>();
+
+	@Override
+	public void print(Printable printable) {
+		char displayChar = printable.getDisplayChar();
+		calls.add(display -> display.print(() -> displayChar));
+	}
+
+	@Override
+	public void print(String s) {
+		calls.add(display -> display.print(s));
+	}
+
+	@Override
+	public void println(String s) {
+		calls.add(display -> display.println(s));
+	}
+
+	@Override
+	public void endLine() {
+		calls.add(Display::endLine);
+	}
+
+	@Override
+	public void printGrid(char[] cells, int width, int height) {
+		char[] copy = cells.clone();
+		calls.add(display -> display.printGrid(copy, width, height));
+	}
+
+	/**
+	 * Does nothing, as nothing is printed until the recording is replayed.
+	 */
+	@Override
+	public void flush() {
+	}
+
+	/**
+	 * Always fails, as there is nobody to read a key from.
+	 *
+	 * @return never returns
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public char readChar() {
+		throw new UnsupportedOperationException("Can't read input while planning a turn");
+	}
+
+	/**
+	 * Prints everything recorded so far on another Display, in the original order, and forgets it.
+	 *
+	 * @param display the Display to print on
+	 */
+	public void replayTo(Display display) {
+		for (Consumer<Display> call : calls) {
+			call.accept(display);
+		}
+		calls.clear();
+	}
+}
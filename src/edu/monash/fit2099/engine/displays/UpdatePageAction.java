@@ -1,6 +1,7 @@
 package edu.monash.fit2099.engine.displays;
 
 import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 
@@ -10,16 +11,23 @@ import edu.monash.fit2099.engine.positions.GameMap;
  */
 class UpdatePageAction extends Action {
     private final Menu menu;
+    private final Display display;
     private final int page;
 
-    public UpdatePageAction(Menu menu, int page) {
+    public UpdatePageAction(Menu menu, Display display, int page) {
         this.menu = menu;
+        this.display = display;
         this.page = page;
     }
 
     @Override
     public String execute(Actor actor, GameMap map) {
-        return menu.showMenu(actor, new Display(), page).execute(actor, map);
+        return menu.showMenu(actor, display, page).execute(actor, map);
+    }
+
+    @Override
+    public ActionResult perform(Actor actor, GameMap map) {
+        return menu.showMenu(actor, display, page).perform(actor, map);
     }
 
     @Override
@@ -13,6 +13,20 @@ import edu.monash.fit2099.engine.positions.Location;
  */
 public abstract class Item extends GameEntity implements Printable {
 
+	/**
+	 * Whether each kind of Item overrides {@link #tick(Location)}, worked out once per class
+	 */
+	private static final ClassValue<Boolean> OVERRIDES_TICK = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("tick", Location.class).getDeclaringClass() != Item.class;
+			} catch (NoSuchMethodException e) {
+				return true;
+			}
+		}
+	};
+
 	private final String name;
 	private char displayChar;
 	protected boolean portable;
@@ -48,6 +62,18 @@ public abstract class Item extends GameEntity implements Printable {
 	public void tick(Location currentLocation) {
 	}
 
+	/**
+	 * Whether {@link #tick(Location)} needs to be called while this Item is on the ground.
+	 * <p>
+	 * By default, it is true if the class overrides tick(Location). If you override this,
+	 * the answer must not change while the Item is lying on a Location.
+	 *
+	 * @return true if this Item does something when it ticks on the ground
+	 */
+	public boolean isTickable() {
+		return OVERRIDES_TICK.get(getClass());
+	}
+
 	@Override
 	public String toString() {
 		return name;
@@ -0,0 +1,74 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A set of grid squares, one bit per square, used by GameMap to remember which Locations
+ * need ticking.
+ * <p>
+ * The bits are updated atomically so that tiles of the same map can be ticked on different
+ * threads even if they share a word.
+ */
+class ActiveCells {
+	private final AtomicLongArray words;
+	private final int width;
+
+	/**
+	 * Constructor. All squares start off inactive.
+	 *
+	 * @param width width of the map, in squares
+	 * @param height height of the map, in squares
+	 */
+	ActiveCells(int width, int height) {
+		this.width = width;
+		this.words = new AtomicLongArray((width * height + 63) >>> 6);
+	}
+
+	/**
+	 * Marks a square as active or inactive.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @param active whether the square needs ticking
+	 */
+	void set(int x, int y, boolean active) {
+		int index = x + y * width;
+		int word = index >>> 6;
+		long mask = 1L << index;
+		while (true) {
+			long current = words.get(word);
+			long updated = active ? current | mask : current & ~mask;
+			if (current == updated || words.compareAndSet(word, current, updated))
+				return;
+		}
+	}
+
+	/**
+	 * Finds the next active square along a row.
+	 *
+	 * @param x the X coordinate to start looking from
+	 * @param y the row to look along
+	 * @param lastX the largest X coordinate to look at
+	 * @return the X coordinate of the first active square from x to lastX, or -1 if there isn't one
+	 */
+	int next(int x, int y, int lastX) {
+		if (x > lastX)
+			return -1;
+
+		int rowStart = y * width;
+		int from = rowStart + x;
+		int to = rowStart + lastX; // inclusive
+		int word = from >>> 6;
+		long bits = words.get(word) & (-1L << from);
+		while (true) {
+			if (bits != 0) {
+				int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+				return index <= to ? index - rowStart : -1;
+			}
+			word++;
+			if (word << 6 > to)
+				return -1;
+			bits = words.get(word);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.OccupancyGrid;
+import edu.monash.fit2099.engine.items.Item;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Keeps track of which Locations of a GameMap have a capability on their Ground or Items, and
+ * for each Location how many of the Locations next to it do.  Asking whether something next
+ * to a Location has the capability is then a single array read, plus a look at the Actors
+ * standing next to it.
+ * <p>
+ * The counts are updated by the GameMap whenever a Location's Ground or Items change.  The
+ * capabilities of a Ground or Item are looked at when it is put down; if they are changed while
+ * it lies on the map, call {@link GameMap#refreshCapabilityLayers(Location)}.  Actors gain and lose
+ * capabilities all the time, so they aren't counted; the ones next to a Location are asked directly.
+ * <p>
+ * The counts are updated atomically, so that tiles of the same map can be ticked on different
+ * threads even if they touch.
+ *
+ * @see GameMap#trackCapability(Enum)
+ */
+public class CapabilityLayer {
+	private final Enum<?> capability;
+	private final GameMap map;
+	private final int width;
+	private final int height;
+	/**
+	 * 1 for each Location whose Ground or Items have the capability, row by row
+	 */
+	private final AtomicIntegerArray sources;
+	/**
+	 * The number of sources next to each Location, row by row
+	 */
+	private final AtomicIntegerArray neighbours;
+
+	/**
+	 * Constructor.  Looks at every Location of the map.
+	 *
+	 * @param map the GameMap to keep track of
+	 * @param capability the capability to look for
+	 */
+	CapabilityLayer(GameMap map, Enum<?> capability) {
+		this.map = map;
+		this.capability = capability;
+		this.width = map.getXRange().max() + 1;
+		this.height = map.getYRange().max() + 1;
+		sources = new AtomicIntegerArray(width * height);
+		neighbours = new AtomicIntegerArray(width * height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				update(map.at(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Returns the capability this layer looks for.
+	 *
+	 * @return the capability
+	 */
+	public Enum<?> getCapability() {
+		return capability;
+	}
+
+	/**
+	 * Returns whether the Ground or any Item at the given coordinates has the capability.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return true if the Location is a source of the capability
+	 */
+	public boolean isSource(int x, int y) {
+		return sources.get(x + y * width) != 0;
+	}
+
+	/**
+	 * Returns how many of the Locations next to the given coordinates have the capability on their Ground or Items.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the number of neighbouring sources, from 0 to 8
+	 */
+	public int countAround(int x, int y) {
+		return neighbours.get(x + y * width);
+	}
+
+	/**
+	 * Returns whether anything next to the given coordinates (Ground, Item or Actor) has the capability.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return true if a neighbouring Location or the Actor standing there has the capability
+	 */
+	public boolean isAround(int x, int y) {
+		if (neighbours.get(x + y * width) != 0)
+			return true;
+
+		OccupancyGrid occupancy = map.occupancy();
+		for (int row = Math.max(0, y - 1); row <= Math.min(height - 1, y + 1); row++) {
+			for (int column = Math.max(0, x - 1); column <= Math.min(width - 1, x + 1); column++) {
+				if (column == x && row == y)
+					continue;
+				Actor actor = occupancy.get(column, row);
+				if (actor != null && actor.hasCapability(capability))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Looks at a Location's Ground and Items again, and updates the counts around it if that changes anything.
+	 *
+	 * @param location the Location that changed
+	 */
+	void update(Location location) {
+		int x = location.x();
+		int y = location.y();
+		int source = hasCapability(location) ? 1 : 0;
+		if (sources.getAndSet(x + y * width, source) == source)
+			return;
+
+		int change = source == 1 ? 1 : -1;
+		for (int row = Math.max(0, y - 1); row <= Math.min(height - 1, y + 1); row++) {
+			for (int column = Math.max(0, x - 1); column <= Math.min(width - 1, x + 1); column++) {
+				if (column != x || row != y)
+					neighbours.addAndGet(column + row * width, change);
+			}
+		}
+	}
+
+	private boolean hasCapability(Location location) {
+		Ground ground = location.getGround();
+		if (ground != null && ground.hasCapability(capability))
+			return true;
+		for (Item item : location.getItems()) {
+			if (item.hasCapability(capability))
+				return true;
+		}
+		return false;
+	}
+}
@@ -1,16 +1,29 @@
 package edu.monash.fit2099.engine.positions;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Class that can create different types of Ground based on the character that
  * represents it.
+ *
+ * Each type of Ground is made by a Supplier that calls its constructor directly, rather
+ * than through reflection, and the Suppliers for ASCII characters are looked up in an array,
+ * so that making a Ground for every square of a very large map is cheap.
  */
 public class FancyGroundFactory implements GroundFactory {
 
-	private Map<Character, Constructor<? extends Ground>> map = new HashMap<>();
+	private Map<Character, Supplier<? extends Ground>> map = new HashMap<>();
+	/**
+	 * The entries of map for ASCII characters, indexed by character
+	 */
+	private Supplier<?>[] ascii = new Supplier<?>[128];
 
 	/**
 	 * Constructor.
@@ -29,13 +42,44 @@ public class FancyGroundFactory implements GroundFactory {
 				Class<? extends Ground> cls = ground.getClass();
 				Constructor<? extends Ground> constructor;
 				constructor = cls.getConstructor();
-				map.put(ground.getDisplayChar(), constructor);
+				Supplier<? extends Ground> supplier = supplierFor(cls, constructor);
+				char displayChar = ground.getDisplayChar();
+				map.put(displayChar, supplier);
+				if (displayChar < ascii.length)
+					ascii[displayChar] = supplier;
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
 		}
 	}
 
+	/**
+	 * Makes a Supplier that calls a Ground's no-argument constructor.  If the constructor can't be
+	 * linked to directly (e.g. the class isn't public), the Supplier calls it reflectively instead.
+	 *
+	 * @param cls the type of Ground
+	 * @param constructor its public no-argument constructor
+	 * @return a Supplier of new instances of cls
+	 */
+	@SuppressWarnings("unchecked")
+	private static Supplier<? extends Ground> supplierFor(Class<? extends Ground> cls, Constructor<? extends Ground> constructor) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle handle = lookup.unreflectConstructor(constructor);
+			return (Supplier<? extends Ground>) LambdaMetafactory.metafactory(lookup, "get",
+					MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+					handle, MethodType.methodType(cls)).getTarget().invoke();
+		} catch (Throwable e) {
+			return () -> {
+				try {
+					return constructor.newInstance();
+				} catch (ReflectiveOperationException reflectionFailed) {
+					throw new IllegalStateException(reflectionFailed);
+				}
+			};
+		}
+	}
+
 	/**
 	 * Given a character, returns a new instance of the Ground type represented by it.
 	 *
@@ -45,10 +89,11 @@ public class FancyGroundFactory implements GroundFactory {
 	@Override
 	public Ground newGround(char displayChar) {
 		try {
-			return map.get(displayChar).newInstance();
+			Supplier<?> supplier = displayChar < ascii.length ? ascii[displayChar] : map.get(displayChar);
+			return (Ground) supplier.get();
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
 		return null;
 	}
-}
\ No newline at end of file
+}
@@ -1,8 +1,9 @@
 package edu.monash.fit2099.engine.positions;
 
+import edu.monash.fit2099.engine.RandomStreams;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
-import edu.monash.fit2099.engine.actors.StatusEffect;
+import edu.monash.fit2099.engine.actors.OccupancyGrid;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
 
@@ -10,8 +11,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Class representing one map within the system.
@@ -29,8 +35,42 @@ public class GameMap {
     protected NumberRange widths;
     protected Location[][] map;
     protected ActorLocationsIterator actorLocations;
+    protected OccupancyGrid occupancy;
+    /**
+     * The Locations that need ticking
+     */
+    protected ActiveCells activeCells;
     protected GroundFactory groundFactory;
     protected String name;
+    /**
+     * Scratch list reused by tick() to hold this map's Actors while their items and effects tick
+     */
+    private final List<Actor> tickingActors = new ArrayList<>();
+    /**
+     * Pool to tick the Locations on, or null to tick them one after another
+     */
+    protected ForkJoinPool cellTickPool;
+    /**
+     * Width and height of the tiles the Locations are ticked in when ticking in parallel
+     */
+    protected int tileSize;
+    /**
+     * The characters drawn last time, row by row; reused by draw()
+     */
+    private char[] frame;
+    /**
+     * This map's own random stream, current while the map ticks; given to it by the World it is
+     * added to (see {@link World#addGameMap(GameMap)}), or null until then
+     */
+    SplittableRandom random;
+    /**
+     * The capabilities whose sources are counted, see {@link #trackCapability(Enum)}
+     */
+    private volatile CapabilityLayer[] capabilityLayers = new CapabilityLayer[0];
+    /**
+     * The Neighbourhood each thread fills in surroundingsOf()
+     */
+    private static final ThreadLocal<Neighbourhood> SURROUNDINGS = ThreadLocal.withInitial(Neighbourhood::new);
 
     /**
      * Constructor.
@@ -50,11 +90,13 @@ public class GameMap {
         this.groundFactory = groundFactory;
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
-                at(x, y).setGround(groundFactory.newGround(groundChar));
+        for (int x = 0; x < width; x++) {
+            Location[] column = map[x];
+            for (int y = 0; y < height; y++) {
+                column[y].putGround(groundFactory.newGround(groundChar));
             }
         }
+        updateAllActivity();
     }
 
     /**
@@ -75,14 +117,26 @@ public class GameMap {
 
     /**
      * Constructor that reads a map from file.
+     * <p>
+     * The file is mapped into memory and each square's Ground is made straight from it, so even
+     * a very large map file is never held on the heap as Strings (see {@link MapFile}).  A file with
+     * characters outside ASCII is read into Strings instead.
      *
      * @param groundFactory Factory to create Ground objects
      * @param mapFile       Name of a file containing an ASCII representation of a
      *                      level
-     * @throws IOException when file I/O fails
+     * @throws IOException when file I/O fails, or the rows of the file aren't all the same width
      */
     public GameMap(String name, GroundFactory groundFactory, String mapFile) throws IOException {
-        this(name, groundFactory, Files.readAllLines(Paths.get(mapFile)));
+        Objects.requireNonNull(groundFactory);
+
+        this.name = name;
+        this.groundFactory = groundFactory;
+        MapFile file = MapFile.read(Paths.get(mapFile));
+        if (file != null)
+            createMapFromFile(groundFactory, file);
+        else
+            createMapFromStrings(groundFactory, Files.readAllLines(Paths.get(mapFile)));
     }
 
     /**
@@ -96,16 +150,57 @@ public class GameMap {
         int height = lines.size();
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
-                char groundChar = lines.get(y).charAt(x);
-                at(x, y).setGround(groundFactory.newGround(groundChar));
+        String[] rows = lines.toArray(new String[0]);
+        for (int x = 0; x < width; x++) {
+            Location[] column = map[x];
+            for (int y = 0; y < height; y++) {
+                char groundChar = rows[y].charAt(x);
+                column[y].putGround(groundFactory.newGround(groundChar));
+            }
+        }
+        updateAllActivity();
+    }
+
+    /**
+     * Create a map from a map file that has been mapped into memory.
+     * <p>
+     * The file is read row by row, in the order it is laid out, so each part of it is paged in once.
+     *
+     * @param groundFactory Factory to create Ground objects
+     * @param file          the map file
+     */
+    private void createMapFromFile(GroundFactory groundFactory, MapFile file) {
+        int width = file.width();
+        int height = file.height();
+        initMap(width, height);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                map[x][y].putGround(groundFactory.newGround(file.charAt(x, y)));
+            }
+        }
+        updateAllActivity();
+    }
+
+    /**
+     * Works out which Locations need ticking, once every Location of a new map has its Ground.
+     * Used instead of setGround(), which does this for each Location as its Ground is put down.
+     */
+    private void updateAllActivity() {
+        for (int x = 0; x < map.length; x++) {
+            Location[] column = map[x];
+            for (int y = 0; y < column.length; y++) {
+                updateActivity(column[y]);
             }
         }
     }
 
     /**
      * Initialize the map.
+     * <p>
+     * The new Locations have no Ground yet, so whether they need ticking isn't worked out here;
+     * the constructors do that once every Ground is down, and setGround() does it for each
+     * Location it is called on.
      *
      * @param width  width of the map, in characters
      * @param height height of the map, in characters
@@ -114,26 +209,35 @@ public class GameMap {
         widths = new NumberRange(0, width);
         heights = new NumberRange(0, height);
         map = new Location[width][height]; // Note the ordering. 0, 0 is the top left.
+        occupancy = new OccupancyGrid(width, height);
+        activeCells = new ActiveCells(width, height);
         // First arg is across, second down
-        for (int x : widths) {
-            for (int y : heights) {
-                map[x][y] = makeNewLocation(x, y);
+        for (int x = 0; x < width; x++) {
+            Location[] column = map[x];
+            for (int y = 0; y < height; y++) {
+                column[y] = makeNewLocation(x, y);
             }
         }
+        // The exits between neighbouring Locations are made when they are first needed; see addNeighbourExits()
+    }
 
-        for (int x : widths) {
-            for (int y : heights) {
-                Location here = this.at(x, y);
-                addExitFromHere(here, x, y - 1, "North", "8");
-                addExitFromHere(here, x + 1, y - 1, "North-East", "9");
-                addExitFromHere(here, x + 1, y, "East", "6");
-                addExitFromHere(here, x + 1, y + 1, "South-East", "3");
-                addExitFromHere(here, x, y + 1, "South", "2");
-                addExitFromHere(here, x - 1, y + 1, "South-West", "1");
-                addExitFromHere(here, x - 1, y, "West", "4");
-                addExitFromHere(here, x - 1, y - 1, "North-West", "7");
-            }
-        }
+    /**
+     * Makes the exits from a Location to the ones next to it.  A Location calls this the first
+     * time its exits are needed, rather than the GameMap making every Location's exits up front.
+     *
+     * @param here the Location whose exits are needed
+     */
+    protected void addNeighbourExits(Location here) {
+        int x = here.x();
+        int y = here.y();
+        addExitFromHere(here, x, y - 1, "North", "8");
+        addExitFromHere(here, x + 1, y - 1, "North-East", "9");
+        addExitFromHere(here, x + 1, y, "East", "6");
+        addExitFromHere(here, x + 1, y + 1, "South-East", "3");
+        addExitFromHere(here, x, y + 1, "South", "2");
+        addExitFromHere(here, x - 1, y + 1, "South-West", "1");
+        addExitFromHere(here, x - 1, y, "West", "4");
+        addExitFromHere(here, x - 1, y - 1, "North-West", "7");
     }
 
     /**
@@ -147,7 +251,7 @@ public class GameMap {
      */
     protected void addExitFromHere(Location here, int x, int y, String name, String hotKey) {
         if (widths.contains(x) && heights.contains(y)) {
-            here.addExit(new Exit(name, this.at(x, y), hotKey));
+            here.addNeighbourExit(new Exit(name, this.at(x, y), hotKey));
         }
     }
 
@@ -167,18 +271,55 @@ public class GameMap {
     /**
      * Display the current GameMap.
      * <p>
-     * Draws Actors, then locations. These need to be printed in rows because that's the way the
-     * console works.
+     * Works out the character for every Location, row by row, into a buffer that is reused from
+     * one draw to the next, then hands the whole frame to the Display in one go so that it can
+     * decide how to get it onto the screen.
      *
      * @param display Display that will draw the state of the game
      */
     public void draw(Display display) {
-        for (int y : heights) {
-            for (int x : widths) {
-                display.print(this.at(x, y));
+        draw(display, 0, 0, widths.max() + 1, heights.max() + 1);
+    }
+
+    /**
+     * Display the part of this GameMap around a Location, e.g. the player's.
+     * <p>
+     * The view is centred on the Location where possible, but doesn't go past the edges of the map,
+     * and is cut down to the size of the map if the map is smaller.
+     *
+     * @param display    Display that will draw the state of the game
+     * @param centre     the Location to keep in view, which must be on this map
+     * @param viewWidth  the number of characters across
+     * @param viewHeight the number of rows
+     */
+    public void draw(Display display, Location centre, int viewWidth, int viewHeight) {
+        int width = Math.min(viewWidth, widths.max() + 1);
+        int height = Math.min(viewHeight, heights.max() + 1);
+        int left = Math.max(0, Math.min(centre.x() - width / 2, widths.max() + 1 - width));
+        int top = Math.max(0, Math.min(centre.y() - height / 2, heights.max() + 1 - height));
+        draw(display, left, top, width, height);
+    }
+
+    /**
+     * Display a rectangle of this GameMap.  Only the Locations inside the rectangle are looked at.
+     *
+     * @param display Display that will draw the state of the game
+     * @param left    X coordinate of the leftmost column
+     * @param top     Y coordinate of the top row
+     * @param width   the number of characters across
+     * @param height  the number of rows
+     */
+    public void draw(Display display, int left, int top, int width, int height) {
+        if (frame == null || frame.length != width * height)
+            frame = new char[width * height];
+
+        int i = 0;
+        for (int y = top; y < top + height; y++) {
+            for (int x = left; x < left + width; x++) {
+                frame[i++] = map[x][y].getDisplayChar();
             }
-            display.endLine();
         }
+        display.printGrid(frame, width, height);
     }
 
     /**
@@ -227,27 +368,199 @@ public class GameMap {
 
     /**
      * Called once per turn, so that maps can experience the passage of time.
+     * <p>
+     * Only Locations that say they are tickable (see {@link Location#isTickable()}) are ticked,
+     * so the cost depends on how much is going on rather than on the size of the map.
      */
     public void tick() {
-        // Tick over all the items in inventories as well as the status effects held by the current actor.
-        for (Actor actor : actorLocations) {
+        RandomStreams.runWith(random, this::tickContents);
+    }
+
+    /**
+     * Tick the Actors' belongings and the status effects that are due (see
+     * {@link edu.monash.fit2099.engine.actors.StatusEffectScheduler}), then the Locations.
+     */
+    protected void tickContents() {
+        // Tick over all the items in inventories as well as the status effects held by the actors on this map.
+        // Work from a copy, as ticking may move or remove actors.
+        tickingActors.addAll(actorLocations.actorsOn(this));
+        for (Actor actor : tickingActors) {
             if (this.contains(actor)) {
                 for (Item item : new ArrayList<Item>(actor.getItemInventory())) { // Copy the list in case the item wants to leave
                     item.tick(actorLocations.locationOf(actor), actor);
                 }
-                for (StatusEffect statusEffect : new ArrayList<StatusEffect>(actor.getStatusEffects())) {
-                    statusEffect.tick(actorLocations.locationOf(actor), actor);
-                }
+                actorLocations.getStatusEffectScheduler().tickDue(actor);
             }
         }
+        tickingActors.clear();
+
+        if (cellTickPool == null) {
+            tickLocations(widths.min(), heights.min(), widths.max(), heights.max());
+        } else {
+            tickLocationsInParallel();
+        }
+    }
+
+    /**
+     * Tick the Locations on a pool rather than one after another.
+     * <p>
+     * Anything a Location does when it ticks must only affect itself and the Locations next to it,
+     * e.g. healing or poisoning adjacent Actors, or hatching an Actor into a neighbouring square.
+     * <p>
+     * The map is cut into square tiles, which are coloured like a four-colour checkerboard (two
+     * colours alternating along each row, and another two on the rows in between). The tiles of
+     * one colour are ticked at the same time, then the next colour, and so on. Tiles of the same
+     * colour are at least one whole tile apart, so with tiles at least two squares wide no two
+     * of them can reach the same Location. Changes to Actors that have to be held back (see
+     * {@link ActorLocationsIterator#runConfinedTo(GameMap, int, int, int, int, Runnable)}) are
+     * applied after each colour, tile by tile in reading order, so the outcome doesn't depend on
+     * how the threads happen to be scheduled.
+     *
+     * @param pool     the pool to tick the Locations on, or null to tick them one after another
+     * @param tileSize the width and height of each tile, in squares
+     * @throws IllegalArgumentException if tileSize is less than 2
+     */
+    public void setCellTickPool(ForkJoinPool pool, int tileSize) {
+        if (tileSize < 2)
+            throw new IllegalArgumentException("Tiles must be at least 2 squares wide");
 
-        for (int y : heights) {
-            for (int x : widths) {
+        this.cellTickPool = pool;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Tick the tickable Locations in a rectangle, in reading order.
+     *
+     * @param left   the smallest X coordinate
+     * @param top    the smallest Y coordinate
+     * @param right  the largest X coordinate
+     * @param bottom the largest Y coordinate
+     */
+    protected void tickLocations(int left, int top, int right, int bottom) {
+        for (int y = top; y <= bottom; y++) {
+            for (int x = activeCells.next(left, y, right); x >= 0; x = activeCells.next(x + 1, y, right)) {
                 this.at(x, y).tick();
             }
         }
     }
 
+    /**
+     * Tick the Locations tile by tile on the cell tick pool, one colour of tile at a time.
+     */
+    protected void tickLocationsInParallel() {
+        int left = widths.min();
+        int top = heights.min();
+        int right = widths.max();
+        int bottom = heights.max();
+        int tilesAcross = (right - left) / tileSize + 1;
+        int tilesDown = (bottom - top) / tileSize + 1;
+
+        for (int colour = 0; colour < 4; colour++) {
+            List<ForkJoinTask<Runnable>> tiles = new ArrayList<>();
+            for (int j = colour / 2; j < tilesDown; j += 2) {
+                for (int i = colour % 2; i < tilesAcross; i += 2) {
+                    int x0 = left + i * tileSize;
+                    int y0 = top + j * tileSize;
+                    int x1 = Math.min(x0 + tileSize - 1, right);
+                    int y1 = Math.min(y0 + tileSize - 1, bottom);
+                    SplittableRandom tileRandom = random.split(); // split here, in tile order, to be reproducible
+                    tiles.add(ForkJoinTask.adapt(() -> actorLocations.runConfinedTo(this, x0 - 1, y0 - 1, x1 + 1, y1 + 1,
+                            () -> RandomStreams.runWith(tileRandom, () -> tickLocations(x0, y0, x1, y1)))));
+                }
+            }
+
+            cellTickPool.invoke(ForkJoinTask.adapt(() -> {
+                ForkJoinTask.invokeAll(tiles);
+            }));
+
+            for (ForkJoinTask<Runnable> tile : tiles) {
+                tile.join().run();
+            }
+        }
+    }
+
+    /**
+     * Returns this map's random stream.
+     * <p>
+     * A map that is asked for its stream before it has been added to a World splits one off
+     * the current stream (see {@link RandomStreams#split()}).
+     *
+     * @return the map's own random stream
+     */
+    public SplittableRandom getRandom() {
+        if (random == null)
+            random = RandomStreams.split();
+        return random;
+    }
+
+    /**
+     * Returns the grid recording which Actor is at each Location of this GameMap.
+     *
+     * @return the occupancy grid
+     */
+    public OccupancyGrid occupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Called by a Location when its Ground or Items change, to start or stop ticking it
+     * and to keep the capability layers up to date.
+     *
+     * @param location the Location that changed
+     */
+    void updateActivity(Location location) {
+        activeCells.set(location.x(), location.y(), location.isTickable());
+        for (CapabilityLayer layer : capabilityLayers) {
+            layer.update(location);
+        }
+    }
+
+    /**
+     * Starts counting, for every Location, how many of the Locations next to it have a capability
+     * on their Ground or Items (see {@link CapabilityLayer}).  Worth doing for capabilities that
+     * are asked about around a Location often, e.g. every tick.
+     *
+     * @param capability the capability to keep track of
+     * @return the layer that keeps track of it
+     */
+    public synchronized CapabilityLayer trackCapability(Enum<?> capability) {
+        CapabilityLayer existing = capabilityLayer(capability);
+        if (existing != null)
+            return existing;
+
+        CapabilityLayer layer = new CapabilityLayer(this, capability);
+        CapabilityLayer[] layers = Arrays.copyOf(capabilityLayers, capabilityLayers.length + 1);
+        layers[layers.length - 1] = layer;
+        capabilityLayers = layers;
+        return layer;
+    }
+
+    /**
+     * Returns the layer that keeps track of a capability on this map, if there is one.
+     *
+     * @param capability the capability
+     * @return its layer, or null if it isn't being tracked
+     */
+    public CapabilityLayer capabilityLayer(Enum<?> capability) {
+        for (CapabilityLayer layer : capabilityLayers) {
+            if (layer.getCapability() == capability)
+                return layer;
+        }
+        return null;
+    }
+
+    /**
+     * Tells the capability layers that the capabilities of the Ground or Items at a Location have
+     * changed while they were there.  Putting down or taking away a Ground or Item doesn't need this.
+     *
+     * @param location the Location whose Ground or Items changed
+     */
+    public void refreshCapabilityLayers(Location location) {
+        for (CapabilityLayer layer : capabilityLayers) {
+            layer.update(location);
+        }
+    }
+
     /**
      * Returns a reference to the Actor at the given location, if there is one.
      *
@@ -302,6 +615,20 @@ public class GameMap {
         return actorLocations.locationOf(actor);
     }
 
+    /**
+     * Looks around the given Actor once, so that everything deciding what it does this turn can
+     * share what was found (see {@link Neighbourhood}).
+     * <p>
+     * The Neighbourhood belongs to the calling thread and is filled again by its next call
+     * to this method, so use it straight away or fill one of your own.
+     *
+     * @param actor the Actor to look around
+     * @return the Actor's surroundings
+     */
+    public Neighbourhood surroundingsOf(Actor actor) {
+        return SURROUNDINGS.get().fill(actor, locationOf(actor));
+    }
+
     /**
      * Is there an Actor at the given Location?
      *
@@ -322,6 +649,53 @@ public class GameMap {
         return actorLocations.contains(actor) && actorLocations.locationOf(actor).map() == this;
     }
 
+    /**
+     * Returns the Actors currently on this GameMap.
+     *
+     * @return an unmodifiable view of the Actors on this GameMap
+     */
+    public Collection<Actor> getActors() {
+        return actorLocations.actorsOn(this);
+    }
+
+    /**
+     * Returns the Actors within a distance of a Location on this GameMap, row by row.  The
+     * distance is counted in moves, diagonal moves included, so radius 1 means the Location and
+     * the ones next to it.  Only the parts of the map that have Actors in them are looked at
+     * (see {@link OccupancyGrid}).
+     *
+     * @param location the Location in the middle, which is included
+     * @param radius   the greatest distance, in moves
+     * @return a new list of the Actors within radius of location
+     * @throws IllegalArgumentException if location isn't on this GameMap or radius is negative
+     */
+    public List<Actor> actorsWithin(Location location, int radius) {
+        checkOnThisMap(location);
+        List<Actor> actors = new ArrayList<>();
+        occupancy.collectWithin(location.x(), location.y(), radius, actors);
+        return actors;
+    }
+
+    /**
+     * Returns the closest Actor with a capability to a Location on this GameMap, counting
+     * distance as for {@link #actorsWithin(Location, int)}.  Of several at the same distance,
+     * the first row by row is returned.
+     *
+     * @param location   where to measure from
+     * @param capability the capability the Actor must have
+     * @return the nearest Actor with capability, possibly the one at location, or null if there is none on this map
+     * @throws IllegalArgumentException if location isn't on this GameMap
+     */
+    public Actor nearest(Location location, Enum<?> capability) {
+        checkOnThisMap(location);
+        return occupancy.nearestWith(location.x(), location.y(), capability);
+    }
+
+    private void checkOnThisMap(Location location) {
+        if (location.map() != this)
+            throw new IllegalArgumentException(location + " is not on " + this);
+    }
+
     /**
      * The toString method of the GameMap class should only print out its name, e.g. Caelid
      *
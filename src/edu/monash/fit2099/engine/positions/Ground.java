@@ -10,6 +10,20 @@ import edu.monash.fit2099.engine.displays.Printable;
  */
 public abstract class Ground extends GameEntity implements Printable {
 
+    /**
+     * Whether each kind of Ground overrides {@link #tick(Location)}, worked out once per class
+     */
+    private static final ClassValue<Boolean> OVERRIDES_TICK = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("tick", Location.class).getDeclaringClass() != Ground.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
     private char displayChar;
     private String name;
 
@@ -62,6 +76,20 @@ public abstract class Ground extends GameEntity implements Printable {
     public void tick(Location location) {
     }
 
+    /**
+     * Whether {@link #tick(Location)} needs to be called at all.
+     * <p>
+     * A GameMap only ticks Locations that have something to tick, so this lets it skip the
+     * squares of plain terrain. By default, it is true if the class overrides tick(Location).
+     * If you override this, the answer must not change while the Ground is on a Location
+     * (setting the Ground again will make the Location check again).
+     *
+     * @return true if this Ground does something when it ticks
+     */
+    public boolean isTickable() {
+        return OVERRIDES_TICK.get(getClass());
+    }
+
     /**
      * Override this to implement terrain that blocks thrown objects but not movement, or vice versa
      *
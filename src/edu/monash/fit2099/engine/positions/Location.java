@@ -14,13 +14,45 @@ import java.util.*;
  */
 public class Location implements Printable {
 
+    /**
+     * Whether each kind of Location overrides {@link #tick()}, worked out once per class
+     */
+    private static final ClassValue<Boolean> OVERRIDES_TICK = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("tick").getDeclaringClass() != Location.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
     private GameMap map;
     private int x;
     private int y;
 
-    private List<Item> items = new ArrayList<>();
+    /**
+     * The items here; null until the first one is added, since most Locations never have any
+     */
+    private List<Item> items;
     private Ground ground;
-    private List<Exit> exits = new ArrayList<>();
+    /**
+     * The exits, made the first time they are needed (see {@link GameMap#addNeighbourExits(Location)})
+     */
+    private volatile List<Exit> exits;
+    /**
+     * An unmodifiable view of exits, handed out by getExits()
+     */
+    private List<Exit> exitsView;
+    /**
+     * The list being filled in by exits(), while it is
+     */
+    private List<Exit> exitsBeingMade;
+    /**
+     * Whether any exits have been added or removed since the GameMap set up the ones to the Locations next to this one
+     */
+    private boolean exitsChanged;
 
     /**
      * Constructor.
@@ -72,6 +104,8 @@ public class Location implements Printable {
      * @return an unmodifiable List of items at this location
      */
     public List<Item> getItems() {
+        if (items == null)
+            return Collections.emptyList();
         return Collections.unmodifiableList(items);
     }
 
@@ -82,7 +116,10 @@ public class Location implements Printable {
      */
     public void addItem(Item item) {
         Objects.requireNonNull(item);
+        if (items == null)
+            items = new ArrayList<>();
         items.add(item);
+        map.updateActivity(this);
     }
 
     /**
@@ -92,7 +129,9 @@ public class Location implements Printable {
      */
     public void removeItem(Item item) {
         Objects.requireNonNull(item);
-        items.remove(item);
+        if (items != null)
+            items.remove(item);
+        map.updateActivity(this);
     }
 
     /**
@@ -111,6 +150,17 @@ public class Location implements Printable {
      */
     public void setGround(Ground ground) {
         this.ground = ground;
+        map.updateActivity(this);
+    }
+
+    /**
+     * Sets the Ground without telling the GameMap, which has to work out afterwards whether
+     * this Location needs ticking.  Only for filling in a new map.
+     *
+     * @param ground Ground type to set
+     */
+    void putGround(Ground ground) {
+        this.ground = ground;
     }
 
     /**
@@ -119,11 +169,36 @@ public class Location implements Printable {
      */
     public void tick() {
         ground.tick(this);
-        for (Item item : new ArrayList<>(items)) {
-            item.tick(this);
+        if (items != null && !items.isEmpty()) {
+            for (Item item : new ArrayList<>(items)) {
+                item.tick(this);
+            }
         }
     }
 
+    /**
+     * Whether {@link #tick()} needs to be called at all.
+     * <p>
+     * The GameMap only ticks Locations for which this is true, and asks again whenever the
+     * Ground or the Items here change. By default, it is true if this class overrides tick(),
+     * or if the Ground or any Item here is tickable.
+     *
+     * @return true if ticking this Location would do anything
+     */
+    public boolean isTickable() {
+        if (OVERRIDES_TICK.get(getClass()))
+            return true;
+        if (ground != null && ground.isTickable())
+            return true;
+        if (items != null) {
+            for (Item item : items) {
+                if (item.isTickable())
+                    return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Accessor to determine whether there is an Actor at this location.
      *
@@ -196,7 +271,7 @@ public class Location implements Printable {
 
         if (this.containsAnActor())
             thing = this.getActor();
-        else if (items.size() > 0)
+        else if (items != null && items.size() > 0)
             thing = items.get(items.size() - 1);
         else
             thing = ground;
@@ -216,33 +291,90 @@ public class Location implements Printable {
 
     /**
      * Returns an unmodifiable list of exits.
+     * <p>
+     * The exits to the Locations next to this one aren't made when the GameMap is, but the first
+     * time anything asks for them, so a big map only pays for the exits that are used.
      *
      * @return an unmodifiable list of exits
      */
     public List<Exit> getExits() {
-        return Collections.unmodifiableList(exits);
+        exits();
+        return exitsView;
+    }
+
+    /**
+     * Returns the list of exits, making the ones to the Locations next to this one if that hasn't been done yet.
+     * While they are being made, this is the list being filled in, so that exits added on the way
+     * (e.g. by a GameMap whose addExitFromHere() calls addExit()) go into it.  Only the thread making
+     * them can get that list, as any other has to wait for the lock.
+     */
+    private List<Exit> exits() {
+        List<Exit> current = exits;
+        if (current == null) {
+            synchronized (this) {
+                current = exits;
+                if (current == null && exitsBeingMade != null)
+                    return exitsBeingMade;
+                if (current == null) {
+                    current = new ArrayList<>(8);
+                    exitsBeingMade = current;
+                    try {
+                        map.addNeighbourExits(this);
+                    } finally {
+                        exitsBeingMade = null;
+                    }
+                    exitsView = Collections.unmodifiableList(current);
+                    exits = current;
+                }
+            }
+        }
+        return current;
     }
 
     /**
      * Add an exit to this Location.
      * <p>
-     * This method is used in GameMap to initialize the Location's exits.
+     * Use this for exits the GameMap doesn't make itself, such as one to another GameMap.  A GameMap
+     * that overrides addExitFromHere() can also use it to make the exits to the Locations next to
+     * this one, which happens the first time the exits are needed.
      *
      * @param exit the exit to add
      */
     public void addExit(Exit exit) {
-        exits.add(exit);
+        exits().add(exit);
+        exitsChanged = true;
+    }
+
+    /**
+     * Adds one of the exits to the Locations next to this one, as set up by the GameMap.
+     *
+     * @param exit the exit to add
+     */
+    void addNeighbourExit(Exit exit) {
+        exits().add(exit);
+    }
+
+    /**
+     * Returns whether the exits are still just the ones the GameMap set up to the Locations next
+     * to this one, so that what is around this Location can be worked out from its coordinates.
+     *
+     * @return true if no exits have been added or removed since
+     */
+    public boolean hasNeighbourExitsOnly() {
+        return !exitsChanged;
     }
 
     /**
      * Remove an exit from this Location.
      * <p>
-     * This method is used in GameMap to initialize the Location's exits.
+     * The exits to the Locations next to this one are made first if they haven't been yet, so that
+     * any of them can be removed.
      *
      * @param exit the exit to remove
      */
     public void removeExit(Exit exit) {
-        exits.remove(exit);
+        exits().remove(exit);
+        exitsChanged = true;
     }
 
     /**
@@ -0,0 +1,150 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An ASCII map file, mapped into memory rather than read into Strings.
+ * <p>
+ * The file is looked at once when it is read, to find where each row starts and to check that
+ * the rows are all the same width; after that, the character of any square is read straight from
+ * the mapped file.  Apart from the mapping itself, which the operating system pages in and out as
+ * it likes, this takes one long per row, so a map file of hundreds of megabytes can be loaded
+ * without holding a copy of it on the heap.
+ * <p>
+ * Rows can end with "\n", "\r\n" or "\r", as with {@link java.nio.file.Files#readAllLines(Path)}.
+ * Files with characters outside ASCII aren't handled here, as a character can take more than one byte.
+ */
+class MapFile {
+
+	/**
+	 * Each chunk of the file is mapped separately, since a single mapping can't be larger than 2GB
+	 */
+	private static final int CHUNK_BITS = 30;
+	private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+
+	private final MappedByteBuffer[] chunks;
+	private final long[] rowStarts;
+	private final int width;
+	private final int height;
+
+	private MapFile(MappedByteBuffer[] chunks, long[] rowStarts, int width, int height) {
+		this.chunks = chunks;
+		this.rowStarts = rowStarts;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Maps a file into memory and finds its rows.
+	 *
+	 * @param path the map file
+	 * @return the map file, or null if it has characters outside ASCII
+	 * @throws IOException if the file can't be read, is empty, or its rows aren't all the same width
+	 */
+	static MapFile read(Path path) throws IOException {
+		MappedByteBuffer[] chunks;
+		long size;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			size = channel.size();
+			chunks = new MappedByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_BITS)];
+			for (int i = 0; i < chunks.length; i++) {
+				long start = (long) i << CHUNK_BITS;
+				chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size - start, 1L << CHUNK_BITS));
+			}
+		}
+
+		long[] rowStarts = new long[16];
+		int height = 0;
+		int width = -1;
+		long rowStart = 0;
+		long offset = 0;
+		for (MappedByteBuffer chunk : chunks) {
+			int limit = chunk.limit();
+			for (int i = 0; i < limit; i++, offset++) {
+				byte b = chunk.get(i);
+				if (b < 0)
+					return null;
+				if (b != '\n' && b != '\r')
+					continue;
+				// "\r\n" ends the row at the "\r"; the "\n" is skipped over as the start of an empty row
+				if (b == '\n' && offset > 0 && offset == rowStart && byteAt(chunks, offset - 1) == '\r') {
+					rowStart = offset + 1;
+					continue;
+				}
+				width = checkWidth(path, height, offset - rowStart, width);
+				if (height == rowStarts.length)
+					rowStarts = Arrays.copyOf(rowStarts, height * 2);
+				rowStarts[height++] = rowStart;
+				rowStart = offset + 1;
+			}
+		}
+		if (rowStart < size) {
+			width = checkWidth(path, height, size - rowStart, width);
+			if (height == rowStarts.length)
+				rowStarts = Arrays.copyOf(rowStarts, height + 1);
+			rowStarts[height++] = rowStart;
+		}
+		if (height == 0)
+			throw new IOException(path + " has no rows");
+		return new MapFile(chunks, rowStarts, width, height);
+	}
+
+	/**
+	 * Checks the width of a row against the width of the first one.
+	 *
+	 * @param path the map file, for the message
+	 * @param row the number of the row, from 0
+	 * @param length the width of the row
+	 * @param width the width of the first row, or -1 if this is the first row
+	 * @return the width all rows must have
+	 * @throws IOException if the row is a different width, or the first row is empty
+	 */
+	private static int checkWidth(Path path, int row, long length, int width) throws IOException {
+		if (width == -1) {
+			if (length == 0 || length > Integer.MAX_VALUE)
+				throw new IOException(path + ": the first row is " + length + " characters wide");
+			return (int) length;
+		}
+		if (length != width)
+			throw new IOException(path + ": row " + (row + 1) + " is " + length + " characters wide, but the first row is " + width);
+		return width;
+	}
+
+	private static byte byteAt(MappedByteBuffer[] chunks, long offset) {
+		return chunks[(int) (offset >>> CHUNK_BITS)].get((int) (offset & CHUNK_MASK));
+	}
+
+	/**
+	 * Returns the width of the map.
+	 *
+	 * @return the number of characters in each row
+	 */
+	int width() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the map.
+	 *
+	 * @return the number of rows
+	 */
+	int height() {
+		return height;
+	}
+
+	/**
+	 * Returns the character of a square, read from the file.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the character at (x, y)
+	 */
+	char charAt(int x, int y) {
+		return (char) byteAt(chunks, rowStarts[y] + x);
+	}
+}
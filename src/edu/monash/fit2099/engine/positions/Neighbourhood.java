@@ -0,0 +1,211 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * What is around an Actor: the exits from its Location and, for each of them, the Location it
+ * leads to, the Actor standing there (if any), and whether the Actor can go there.
+ * <p>
+ * Behaviours that look around for something to attack or somewhere to go can all use the same
+ * Neighbourhood, rather than each going through the exits and asking every Location again.
+ * A Neighbourhood is filled in place, so one object can be used turn after turn without
+ * allocating anything; see {@link GameMap#surroundingsOf(Actor)}.
+ * <p>
+ * It is a snapshot: if Actors move or the Ground changes, it has to be filled again.
+ * The Actors and Grounds themselves are not copied, so asking them about their capabilities
+ * always gives the current answer.
+ */
+public class Neighbourhood {
+    private Actor actor;
+    private Location centre;
+    private int size;
+    private Exit[] exits = new Exit[8];
+    private Location[] destinations = new Location[8];
+    private Actor[] occupants = new Actor[8];
+    private boolean[] enterable = new boolean[8];
+
+    /**
+     * Looks around a Location on behalf of an Actor, replacing whatever this Neighbourhood held before.
+     *
+     * @param actor  the Actor whose surroundings these are
+     * @param centre where the Actor is, or null if it isn't on a map
+     * @return this Neighbourhood
+     */
+    public Neighbourhood fill(Actor actor, Location centre) {
+        Arrays.fill(exits, 0, size, null);
+        Arrays.fill(destinations, 0, size, null);
+        Arrays.fill(occupants, 0, size, null);
+        this.actor = actor;
+        this.centre = centre;
+        size = 0;
+        if (centre == null)
+            return this;
+
+        List<Exit> around = centre.getExits();
+        int count = around.size();
+        if (count > exits.length) {
+            exits = new Exit[count];
+            destinations = new Location[count];
+            occupants = new Actor[count];
+            enterable = new boolean[count];
+        }
+        for (int i = 0; i < count; i++) {
+            Exit exit = around.get(i);
+            Location destination = exit.getDestination();
+            exits[i] = exit;
+            destinations[i] = destination;
+            occupants[i] = destination.getActor();
+            enterable[i] = destination.canActorEnter(actor);
+        }
+        size = count;
+        return this;
+    }
+
+    /**
+     * Returns the Actor whose surroundings these are.
+     *
+     * @return the Actor
+     */
+    public Actor getActor() {
+        return actor;
+    }
+
+    /**
+     * Returns the Location in the middle, where the Actor is.
+     *
+     * @return the Actor's Location, or null if it isn't on a map
+     */
+    public Location getCentre() {
+        return centre;
+    }
+
+    /**
+     * Returns the number of exits from the centre.
+     *
+     * @return the number of exits
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an exit from the centre, in the order the centre lists them.
+     *
+     * @param index which exit, from 0 to size() - 1
+     * @return the exit
+     */
+    public Exit getExit(int index) {
+        return exits[checkIndex(index)];
+    }
+
+    /**
+     * Returns the Location an exit leads to.
+     *
+     * @param index which exit, from 0 to size() - 1
+     * @return the exit's destination
+     */
+    public Location getDestination(int index) {
+        return destinations[checkIndex(index)];
+    }
+
+    /**
+     * Returns the Actor standing where an exit leads.
+     *
+     * @param index which exit, from 0 to size() - 1
+     * @return the Actor there, or null if there isn't one
+     */
+    public Actor getOccupant(int index) {
+        return occupants[checkIndex(index)];
+    }
+
+    /**
+     * Returns whether the Actor can go where an exit leads, i.e. nobody is there and the Ground lets it in.
+     *
+     * @param index which exit, from 0 to size() - 1
+     * @return true if the Actor can enter the exit's destination
+     */
+    public boolean canEnter(int index) {
+        return enterable[checkIndex(index)];
+    }
+
+    /**
+     * Returns the number of exits the Actor can go through.
+     *
+     * @return the number of enterable destinations
+     */
+    public int enterableCount() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (enterable[i])
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the first exit, in order, that leads to an Actor with a capability.
+     *
+     * @param capability the capability to look for
+     * @return the index of the exit, or -1 if no neighbouring Actor has it
+     */
+    public int indexOfOccupantWith(Enum<?> capability) {
+        for (int i = 0; i < size; i++) {
+            if (occupants[i] != null && occupants[i].hasCapability(capability))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first exit, in order, that leads to a particular Actor.
+     *
+     * @param occupant the Actor to look for
+     * @return the index of the exit, or -1 if the Actor isn't next to the centre
+     */
+    public int indexOf(Actor occupant) {
+        if (occupant == null)
+            return -1;
+        for (int i = 0; i < size; i++) {
+            if (occupants[i] == occupant)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first exit, in order, that leads to a particular Location.
+     *
+     * @param destination the Location to look for
+     * @return the index of the exit, or -1 if no exit leads there
+     */
+    public int indexOf(Location destination) {
+        for (int i = 0; i < size; i++) {
+            if (destinations[i] == destination)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the Ground where any exit leads has a capability.
+     *
+     * @param capability the capability to look for
+     * @return true if a neighbouring Ground has it
+     */
+    public boolean hasGroundWith(Enum<?> capability) {
+        for (int i = 0; i < size; i++) {
+            if (destinations[i].getGround().hasCapability(capability))
+                return true;
+        }
+        return false;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Exit " + index + " of " + size);
+        return index;
+    }
+}
@@ -1,10 +1,8 @@
 package edu.monash.fit2099.engine.positions;
 
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * A class that represents an array of sequential numbers.
@@ -12,40 +10,60 @@ import java.util.List;
  * Counted for loops can cause off by one errors, and using this class can
  * let you use enhanced for loops instead.  Python programmers should be familiar
  * with this idiom.
+ *
+ * Only the first number and the count are stored, so a range costs the same however
+ * long it is, and checking whether it contains a number is a comparison rather than a search.
  */
 public class NumberRange implements Iterable<Integer> {
 
-	private List<Integer> list;
+	private final int start;
+	private final int count;
 
 	public NumberRange(int start, int count) {
-		// Iterators can be used to remove elements. Who knew?
-		List<Integer> innerList = new ArrayList<Integer>();
-		list = Collections.unmodifiableList(innerList);
-
-		for (int i = start; i < start + count; i++) {
-			innerList.add(i);
-		}
+		this.start = start;
+		this.count = Math.max(0, count);
 	}
 
 	@Override
 	public Iterator<Integer> iterator() {
-		return list.iterator();
+		// Iterators can be used to remove elements. Who knew? Not this one.
+		return new Iterator<Integer>() {
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next < count;
+			}
+
+			@Override
+			public Integer next() {
+				if (next >= count)
+					throw new NoSuchElementException();
+				return start + next++;
+			}
+		};
 	}
 
 	/**
 	 * Return the smallest int in the range.
 	 * @return the smallest int in the range.
+	 * @throws IndexOutOfBoundsException if the range is empty
 	 */
 	public int min() {
-		return list.get(0);
+		if (count == 0)
+			throw new IndexOutOfBoundsException("Empty range");
+		return start;
 	}
 
 	/**
 	 * Return the largest int in the range.
 	 * @return the largest int in the range.
+	 * @throws IndexOutOfBoundsException if the range is empty
 	 */
 	public int max() {
-		return list.get(list.size() - 1);
+		if (count == 0)
+			throw new IndexOutOfBoundsException("Empty range");
+		return start + count - 1;
 	}
 
 	/**
@@ -55,7 +73,7 @@ public class NumberRange implements Iterable<Integer> {
 	 * @return true if i lies between min and max, false otherwise.
 	 */
 	public boolean contains(int i) {
-		return list.contains(i);
+		return i >= start && (long) i - start < count;
 	}
 
 }
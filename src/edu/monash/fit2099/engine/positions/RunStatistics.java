@@ -0,0 +1,73 @@
+package edu.monash.fit2099.engine.positions;
+
+/**
+ * Counters collected while a World runs unattended.
+ *
+ * @see World#runFor(long)
+ */
+public class RunStatistics {
+
+	private final long ticks;
+	private final long actorTurns;
+	private final long elapsedNanos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ticks        the number of game loop iterations that were completed
+	 * @param actorTurns   the number of Actor turns that were processed
+	 * @param elapsedNanos wall clock time taken, in nanoseconds
+	 */
+	public RunStatistics(long ticks, long actorTurns, long elapsedNanos) {
+		this.ticks = ticks;
+		this.actorTurns = actorTurns;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return the number of game loop iterations that were completed
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * @return the number of Actor turns that were processed
+	 */
+	public long getActorTurns() {
+		return actorTurns;
+	}
+
+	/**
+	 * @return wall clock time taken, in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return game loop iterations per second of wall clock time
+	 */
+	public double ticksPerSecond() {
+		return perSecond(ticks);
+	}
+
+	/**
+	 * @return Actor turns per second of wall clock time
+	 */
+	public double actorTurnsPerSecond() {
+		return perSecond(actorTurns);
+	}
+
+	private double perSecond(long count) {
+		if (elapsedNanos == 0)
+			return 0;
+		return count * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d ticks, %d actor turns in %.3f s (%.1f ticks/s, %.1f actor turns/s)",
+				ticks, actorTurns, elapsedNanos / 1_000_000_000.0, ticksPerSecond(), actorTurnsPerSecond());
+	}
+}
@@ -1,17 +1,27 @@
 package edu.monash.fit2099.engine.positions;
 
+import edu.monash.fit2099.engine.RandomStreams;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.ActionResult;
+import edu.monash.fit2099.engine.actions.LazyActionList;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.RecordingDisplay;
 import edu.monash.fit2099.engine.items.Item;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BooleanSupplier;
 
 /**
  * Za Warudo! - DIO
@@ -25,6 +35,12 @@ public class World {
 	protected ActorLocationsIterator actorLocations = new ActorLocationsIterator();
 	protected Actor player; // We only draw the particular map this actor is on.
 	protected Map<Actor, Action> lastActionMap = new HashMap<Actor, Action>();
+	protected ForkJoinPool mapTickPool; // null means the maps are ticked one after another
+	protected ForkJoinPool planningPool; // null means every Actor decides on its own turn
+	protected int viewWidth; // 0 means the whole map is drawn
+	protected int viewHeight;
+	protected Actor camera; // null means the view follows the player
+	private final SplittableRandom random; // every GameMap's random stream is split off this one
 
 	/**
 	 * Constructor.
@@ -32,18 +48,112 @@ public class World {
 	 * @param display the Display that will display this World.
 	 */
 	public World(Display display) {
+		this(display, new SplittableRandom());
+	}
+
+	/**
+	 * Constructor for a World whose randomness all comes from the given seed.
+	 *
+	 * GameMaps take their random streams from this World's when they are added to it, and
+	 * Actors take theirs when they are put on a map (see {@link RandomStreams}), so two Worlds
+	 * made from the same seed and filled in the same way play out the same.
+	 *
+	 * @param display the Display that will display this World.
+	 * @param seed the seed for everything random in the game
+	 */
+	public World(Display display, long seed) {
+		this(display, new SplittableRandom(seed));
+	}
+
+	private World(Display display, SplittableRandom random) {
 		Objects.requireNonNull(display);
 		this.display = display;
+		this.random = random;
 	}
 
 	/**
 	 * Add a GameMap to the World.
+	 *
+	 * A GameMap that doesn't have a random stream yet gets one split off this World's.
+	 *
 	 * @param gameMap the GameMap to add
 	 */
 	public void addGameMap(GameMap gameMap) {
 		Objects.requireNonNull(gameMap);
 		gameMaps.add(gameMap);
 		gameMap.actorLocations = actorLocations;
+		if (gameMap.random == null)
+			gameMap.random = random.split();
+	}
+
+	/**
+	 * Returns the GameMaps in this World, in the order they were added.
+	 *
+	 * @return an unmodifiable list of the GameMaps
+	 */
+	public List<GameMap> getGameMaps() {
+		return Collections.unmodifiableList(gameMaps);
+	}
+
+	/**
+	 * Tick the GameMaps concurrently on the given pool, or one after another if it is null.
+	 *
+	 * This is only safe if ticking one GameMap doesn't look at or change another, apart from
+	 * adding, moving and removing Actors. Those changes are held back and applied in map order
+	 * once every GameMap has been ticked (see {@link ActorLocationsIterator#beginParallelTick(List)}),
+	 * so the turn order comes out the same either way.
+	 *
+	 * @param pool the pool to tick the GameMaps on, or null to turn parallel ticking off
+	 */
+	public void setMapTickPool(ForkJoinPool pool) {
+		this.mapTickPool = pool;
+	}
+
+	/**
+	 * Let Actors plan their turns concurrently on the given pool, or turn that off if it is null.
+	 *
+	 * With a planning pool, each round goes like this. The player takes its turn as usual.
+	 * Then every other Actor that {@link Actor#canPlanConcurrently() can plan concurrently}
+	 * chooses its Action at the same time, all looking at the world as the player left it.
+	 * Finally the Actors' turns are carried out one at a time in the usual order. A planned
+	 * Action that is no longer {@link Action#isStillValid(Actor, GameMap) valid} by then
+	 * (e.g. because an earlier Actor took the square it was moving to, or killed its target)
+	 * is replaced by doing nothing. Actors that can't plan concurrently decide when their turn
+	 * comes, as usual.
+	 *
+	 * @param pool the pool to plan turns on, or null to turn planning off
+	 */
+	public void setPlanningPool(ForkJoinPool pool) {
+		this.planningPool = pool;
+	}
+
+	/**
+	 * Only draw the part of the map around the player (or the camera, see {@link #setCamera(Actor)}),
+	 * rather than the whole map.
+	 *
+	 * Only the Locations that are shown are looked at, so drawing costs the same however large
+	 * the map is.  The view is kept inside the map, so near an edge it is no longer centred, and
+	 * a map that is smaller than the view is drawn whole.
+	 *
+	 * @param width the number of characters across, or 0 to draw whole maps again
+	 * @param height the number of rows
+	 * @throws IllegalArgumentException if either is negative, or only one of them is 0
+	 */
+	public void setViewport(int width, int height) {
+		if (width < 0 || height < 0 || (width == 0) != (height == 0))
+			throw new IllegalArgumentException("A viewport needs a width and height above 0, or both 0");
+		this.viewWidth = width;
+		this.viewHeight = height;
+	}
+
+	/**
+	 * Follow an Actor other than the player: the map that Actor is on is the one drawn, and a
+	 * viewport is centred on them.  If the Actor leaves the World, the view goes back to the player.
+	 *
+	 * @param actor the Actor to follow, or null to follow the player
+	 */
+	public void setCamera(Actor actor) {
+		this.camera = actor;
 	}
 
 	/**
@@ -74,33 +184,267 @@ public class World {
 		if (player == null)
 			throw new IllegalStateException();
 
-		// initialize the last action map to nothing actions;
-		for (Actor actor : actorLocations) {
-			lastActionMap.put(actor, new DoNothingAction());
-		}
+		initLastActions();
 
 		// This loop is basically the whole game
 		while (stillRunning()) {
-			GameMap playersMap = actorLocations.locationOf(player).map();
-			// Tick over all the maps. For the map stuff.
-			for (GameMap gameMap : gameMaps) {
-				gameMap.tick();
+			playRound();
+			display.flush();
+		}
+		display.println(endGameMessage());
+		display.flush();
+	}
+
+	/**
+	 * Run the game for a fixed number of ticks, without waiting for anybody.
+	 *
+	 * Intended for unattended runs such as soak tests and throughput measurements, typically with a
+	 * HeadlessDisplay standing in for the console.  Stops early if the game ends.
+	 *
+	 * @param maxTicks the largest number of game loop iterations to run
+	 * @return counters describing the run
+	 * @throws IllegalStateException if the player doesn't exist
+	 */
+	public RunStatistics runFor(long maxTicks) {
+		return runFor(maxTicks, () -> false);
+	}
+
+	/**
+	 * Run the game for a fixed number of ticks or until a stop condition is met, without waiting for anybody.
+	 *
+	 * The stop condition is checked before every tick.  Unlike run(), no end of game message is displayed.
+	 *
+	 * @param maxTicks      the largest number of game loop iterations to run
+	 * @param stopCondition returns true when the run should end
+	 * @return counters describing the run
+	 * @throws IllegalStateException if the player doesn't exist
+	 */
+	public RunStatistics runFor(long maxTicks, BooleanSupplier stopCondition) {
+		if (player == null)
+			throw new IllegalStateException();
+		Objects.requireNonNull(stopCondition);
+
+		initLastActions();
+
+		long ticks = 0;
+		long actorTurns = 0;
+		long start = System.nanoTime();
+		while (ticks < maxTicks && stillRunning() && !stopCondition.getAsBoolean()) {
+			actorTurns += playRound();
+			display.flush();
+			ticks++;
+		}
+		return new RunStatistics(ticks, actorTurns, System.nanoTime() - start);
+	}
+
+	/**
+	 * Initialize the last action map to nothing actions for every Actor that doesn't have one yet.
+	 */
+	protected void initLastActions() {
+		for (Actor actor : actorLocations) {
+			lastActionMap.putIfAbsent(actor, new DoNothingAction());
+		}
+	}
+
+	/**
+	 * Play one iteration of the game loop.
+	 *
+	 * Ticks over all the maps, displays the player's map (or the part of it in view), then processes the actions of every Actor
+	 * in the game, regardless of map.
+	 *
+	 * @return the number of Actor turns that were processed
+	 */
+	protected int playRound() {
+		Actor focus = camera != null && actorLocations.contains(camera) ? camera : player;
+		Location centre = actorLocations.locationOf(focus);
+		// Tick over all the maps. For the map stuff.
+		tickMaps();
+
+		if (viewWidth > 0)
+			centre.map().draw(display, centre, viewWidth, viewHeight);
+		else
+			centre.map().draw(display);
+
+		// Process all the actors.
+		if (planningPool != null)
+			return processPlannedTurns();
+
+		int turns = 0;
+		for (Actor actor : actorLocations) {
+			if (stillRunning()) {
+				processActorTurn(actor);
+				turns++;
 			}
+		}
+		return turns;
+	}
+
+	/**
+	 * Process a round of turns using the planning pool (see {@link #setPlanningPool(ForkJoinPool)}).
+	 *
+	 * @return the number of Actor turns that were processed
+	 */
+	protected int processPlannedTurns() {
+		List<Actor> round = new ArrayList<Actor>();
+		for (Actor actor : actorLocations) {
+			round.add(actor);
+		}
 
-			playersMap.draw(display);
+		int turns = 0;
+		int first = 0;
+		if (!round.isEmpty() && round.get(0) == player) {
+			if (stillRunning()) {
+				processActorTurn(player);
+				turns++;
+			}
+			first = 1;
+		}
 
-			// Process all the actors.
-			for (Actor actor : actorLocations) {
-				if (stillRunning())
-					processActorTurn(actor);
+		// Everybody who can decides at once, against the same view of the world
+		TurnPlan[] plans = new TurnPlan[round.size()];
+		List<ForkJoinTask<?>> planning = new ArrayList<ForkJoinTask<?>>();
+		for (int i = first; i < round.size(); i++) {
+			Actor actor = round.get(i);
+			if (actorLocations.contains(actor) && actor.canPlanConcurrently()) {
+				int index = i;
+				planning.add(ForkJoinTask.adapt(() -> {
+					RandomStreams.runWith(actor.getRandom(), () -> plans[index] = planTurn(actor));
+				}));
 			}
 		}
-		display.println(endGameMessage());
+		planningPool.invoke(ForkJoinTask.adapt(() -> {
+			ForkJoinTask.invokeAll(planning);
+		}));
+
+		// Then the turns are carried out in order
+		for (int i = first; i < round.size() && stillRunning(); i++) {
+			Actor actor = round.get(i);
+			if (!actorLocations.contains(actor))
+				continue;
+
+			if (plans[i] != null) {
+				TurnPlan plan = plans[i];
+				RandomStreams.runWith(actor.getRandom(), () -> commitTurn(actor, plan));
+			} else {
+				processActorTurn(actor);
+			}
+			turns++;
+		}
+		return turns;
+	}
+
+	/**
+	 * Ask an Actor what it is going to do this turn, without doing it.
+	 *
+	 * This runs on a thread of the planning pool, so anything the Actor prints is recorded
+	 * to be shown when the turn is carried out.
+	 *
+	 * @param actor the Actor whose turn it is
+	 * @return the Actor's plan
+	 */
+	protected TurnPlan planTurn(Actor actor) {
+		Location here = actorLocations.locationOf(actor);
+		GameMap map = here.map();
+		RecordingDisplay output = new RecordingDisplay();
+
+		ActionList actions = new LazyActionList(list -> collectActions(actor, here, list));
+		Action[] action = new Action[1];
+		Display.runWith(output, () -> action[0] = actor.playTurn(actions, lastActionMap.get(actor), map, output));
+		return new TurnPlan(map, action[0], output);
+	}
+
+	/**
+	 * Carry out a planned turn, doing nothing instead if the plan no longer works.
+	 *
+	 * @param actor the Actor whose turn it is
+	 * @param plan what the Actor decided to do
+	 */
+	protected void commitTurn(Actor actor, TurnPlan plan) {
+		GameMap map = actorLocations.locationOf(actor).map();
+		plan.output.replayTo(display);
+
+		Action action = plan.action;
+		if (map != plan.map || !action.isStillValid(actor, map))
+			action = new DoNothingAction();
+		lastActionMap.put(actor, action);
+
+		Action committed = action;
+		Display.runWith(display, () -> {
+			ActionResult result = committed.perform(actor, map);
+			display.println(result);
+		});
+	}
+
+	/**
+	 * Tick over all the GameMaps, in parallel if a pool has been set, once the status effects
+	 * that are due this tick have been handed to their Actors.
+	 *
+	 * Anything printed while a map ticks goes to the World's Display (see {@link Display#current()}).
+	 * When the maps tick in parallel, each one's output is recorded and then replayed in map order,
+	 * so it comes out as if they had ticked one after another.
+	 */
+	protected void tickMaps() {
+		actorLocations.getStatusEffectScheduler().advance();
+		if (mapTickPool == null || gameMaps.size() < 2) {
+			Display.runWith(display, () -> {
+				for (GameMap gameMap : gameMaps) {
+					gameMap.tick();
+				}
+			});
+			return;
+		}
+
+		List<ForkJoinTask<?>> ticks = new ArrayList<ForkJoinTask<?>>();
+		List<RecordingDisplay> outputs = new ArrayList<RecordingDisplay>();
+		for (GameMap gameMap : gameMaps) {
+			RecordingDisplay output = new RecordingDisplay();
+			outputs.add(output);
+			ticks.add(ForkJoinTask.adapt(() -> Display.runWith(output,
+					() -> actorLocations.runConfinedTo(gameMap, gameMap::tick))));
+		}
+
+		actorLocations.beginParallelTick(gameMaps);
+		try {
+			mapTickPool.invoke(ForkJoinTask.adapt(() -> {
+				ForkJoinTask.invokeAll(ticks);
+			}));
+		} finally {
+			actorLocations.endParallelTick();
+		}
+		for (RecordingDisplay output : outputs) {
+			output.replayTo(display);
+		}
 	}
 
 	/**
 	 * Gives an Actor its turn.
 	 *
+	 * The Actor's random stream is the current one for the whole turn (see {@link RandomStreams}).
+	 * The Actor is handed a {@link LazyActionList}, so the Actions it could take are only
+	 * worked out (by {@link #collectActions(Actor, Location, ActionList)}) if it looks at them.
+	 *
+	 * @param actor the Actor whose turn it is.
+	 */
+	protected void processActorTurn(Actor actor) {
+		RandomStreams.runWith(actor.getRandom(), () -> {
+			Location here = actorLocations.locationOf(actor);
+			GameMap map = here.map();
+
+			ActionList actions = new LazyActionList(list -> collectActions(actor, here, list));
+
+			Display.runWith(display, () -> {
+				Action action = actor.playTurn(actions, lastActionMap.get(actor), map, display);
+				lastActionMap.put(actor, action);
+
+				ActionResult result = action.perform(actor, map);
+				display.println(result);
+			});
+		});
+	}
+
+	/**
+	 * Adds the Actions an Actor can take to a list.
+	 *
 	 * The Actions an Actor can take include:
 	 * <ul>
 	 * <li>those conferred by items it is carrying</li>
@@ -111,12 +455,12 @@ public class World {
 	 * </ul>
 	 *
 	 * @param actor the Actor whose turn it is.
+	 * @param here where the Actor is
+	 * @param actions the list to add the Actions to
 	 */
-	protected void processActorTurn(Actor actor) {
-		Location here = actorLocations.locationOf(actor);
+	protected void collectActions(Actor actor, Location here, ActionList actions) {
 		GameMap map = here.map();
 
-		ActionList actions = new ActionList();
 		for (Item item : actor.getItemInventory()) {
 			// for each item that can perform an action to its owner
 			actions.add(item.allowableActions(actor, map));
@@ -150,12 +494,6 @@ public class World {
 			actions.add(item.getPickUpAction(actor));
 		}
 		actions.add(new DoNothingAction());
-
-		Action action = actor.playTurn(actions, lastActionMap.get(actor), map, display);
-		lastActionMap.put(actor, action);
-		
-		String result = action.execute(actor, map);
-		display.println(result);
 	}
 
 	/**
@@ -177,4 +515,25 @@ public class World {
 	protected String endGameMessage() {
 		return "Game Over";
 	}
+
+	/**
+	 * What an Actor decided to do while its turn was being planned.
+	 */
+	protected static class TurnPlan {
+		/**
+		 * The map the Actor was on when it decided
+		 */
+		final GameMap map;
+		final Action action;
+		/**
+		 * Whatever the Actor printed while deciding
+		 */
+		final RecordingDisplay output;
+
+		TurnPlan(GameMap map, Action action, RecordingDisplay output) {
+			this.map = map;
+			this.action = action;
+			this.output = output;
+		}
+	}
 }
@@ -1,9 +1,10 @@
 package edu.monash.fit2099.engine.weapons;
 
+import edu.monash.fit2099.engine.RandomStreams;
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 
-import java.util.Random;
 
 /**
  * Class that represents a weapon for an unarmed Actor (e.g. fists, claws, etc.)
@@ -56,14 +57,18 @@ public abstract class IntrinsicWeapon implements Weapon {
      */
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
-        Random rand = new Random();
-        if (!(rand.nextInt(100) < this.hitRate)) {
-            return attacker + " misses " + target + ".";
+        return performAttack(attacker, target, map).render();
+    }
+
+    @Override
+    public ActionResult performAttack(Actor attacker, Actor target, GameMap map) {
+        if (!(RandomStreams.current().nextInt(100) < this.hitRate)) {
+            return ActionResult.format("%s misses %s.", attacker, target);
         }
 
         target.hurt(damage);
 
-        return String.format("%s %s %s for %d damage", attacker, verb, target, damage);
+        return ActionResult.format("%s %s %s for %d damage", attacker, verb, target, damage);
     }
 
     @Override
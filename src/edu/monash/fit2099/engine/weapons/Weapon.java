@@ -1,5 +1,6 @@
 package edu.monash.fit2099.engine.weapons;
 
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 
@@ -25,4 +26,18 @@ public interface Weapon {
      */
     String attack(Actor attacker, Actor target, GameMap map);
 
+    /**
+     * The same as attack(), but the description is only built if it is displayed.
+     * By default this calls attack() and wraps its text; weapons whose descriptions take
+     * work to build can override it (and then implement attack() with it).
+     *
+     * @param attacker the actor who performed the attack
+     * @param target   the actor who is the target of the attack
+     * @param map      the map on which the attack was executed
+     * @return what the weapon did when the attack was performed
+     */
+    default ActionResult performAttack(Actor attacker, Actor target, GameMap map) {
+        return ActionResult.of(attack(attacker, target, map));
+    }
+
 }
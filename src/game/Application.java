@@ -1,6 +1,8 @@
 package game;
 
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.AnsiDisplay;
+import edu.monash.fit2099.engine.displays.BufferedDisplay;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.*;
 import game.actors.*;
@@ -8,6 +10,8 @@ import game.actors.boss.BedOfChaos;
 import game.actors.npcs.*;
 import game.behaviours.RandomBehaviourSelector;
 import game.behaviours.SequentialBehaviourSelector;
+import game.enums.Ability;
+import game.enums.Status;
 import game.grounds.*;
 import game.items.*;
 import game.time.TimeManager;
@@ -22,49 +26,122 @@ import java.util.List;
  */
 public class Application {
 
+    /**
+     * The valley of the Inheritree, where the player starts.
+     */
+    private static final List<String> VALLEY_MAP = Arrays.asList(
+            "xxxx...xxxxxxxxxxxxxxxxxxxxxxx........xx",
+            "xxx.....xxxxxxx..xxxxxxxxxxxxx.........x",
+            "..........xxxx....xxxxxxxxxxxxxx.......x",
+            "....xxx...........xxxxxxxxxxxxxxx.....xx",
+            "...xxxxx...........xxxxxxxxxxxxxx.....xx",
+            "...xxxxxxxxxx.......xxxxxxxx...xx......x",
+            "....xxxxxxxxxx........xxxxxx...xxx......",
+            "....xxxxxxxxxxx.........xxx....xxxx.....",
+            "....xxxxxxxxxxx................xxxx.....",
+            "...xxxx...xxxxxx.....#####.....xxx......",
+            "...xxx....xxxxxxx....#___#.....xx.......",
+            "..xxxx...xxxxxxxxx...#___#....xx........",
+            "xxxxx...xxxxxxxxxx...##_##...xxx.......x",
+            "xxxxx..xxxxxxxxxxx.........xxxxx......xx",
+            "xxxxx..xxxxxxxxxxxx.......xxxxxx......xx");
+
+    /**
+     * The map on the other side of the portal.
+     */
+    private static final List<String> LIMVELD_MAP = Arrays.asList(
+            ".............xxxx",
+            "..............xxx",
+            "................x",
+            ".................",
+            "................x",
+            "...............xx",
+            "..............xxx",
+            "..............xxx",
+            "..............xxx",
+            ".............xxxx",
+            ".............xxxx",
+            "....xxx.....xxxxx",
+            "....xxxx...xxxxxx");
+
     public static void main(String[] args) {
+        for (String line : FancyMessage.TITLE.split("\n")) {
+            new Display().println(line);
+            try {
+                Thread.sleep(200);
+            } catch (Exception exception) {
+                exception.printStackTrace();
+            }
+        }
+
+        // Terminals that understand ANSI escape codes can keep the map still and redraw only what changes
+        Display display = Arrays.asList(args).contains("--ansi") ? new AnsiDisplay() : new BufferedDisplay();
+        World world = createWorld(display);
+        // --view=WIDTHxHEIGHT only draws that much of the map, centred on the Farmer
+        for (String arg : args) {
+            if (arg.startsWith("--view=")) {
+                String[] size = arg.substring("--view=".length()).split("x");
+                world.setViewport(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+            }
+        }
+        new Display().println("Tip: Find the Relic Altar at (23, 10) for ancient powers!");
 
-        World world = new World(new Display());
+        world.run();
+    }
+
+    /**
+     * Builds the game world: the valley, the portal map, every NPC and the player.
+     *
+     * @param display the Display that the World will use
+     * @return a World that is ready to run
+     */
+    public static World createWorld(Display display) {
+        return createWorld(display, 0);
+    }
 
+    /**
+     * Builds the game world with a number of extra, fully populated copies of the valley.
+     * The copies are only there to make the world bigger, e.g. for soak tests; the player cannot reach them.
+     *
+     * @param display       the Display that the World will use
+     * @param extraValleys  how many extra valleys to add
+     * @return a World that is ready to run
+     */
+    public static World createWorld(Display display, int extraValleys) {
+        return populateWorld(new World(display), extraValleys);
+    }
+
+    /**
+     * Builds the game world with a number of extra valleys, taking all randomness from a seed,
+     * so that two worlds built from the same seed play out the same way.
+     *
+     * @param display       the Display that the World will use
+     * @param extraValleys  how many extra valleys to add
+     * @param seed          the seed for everything random in the game
+     * @return a World that is ready to run
+     */
+    public static World createWorld(Display display, int extraValleys, long seed) {
+        return populateWorld(new World(display, seed), extraValleys);
+    }
+
+    /**
+     * Adds the valley, the portal map, every NPC and the player to an empty World.
+     *
+     * @param world         the World to fill in
+     * @param extraValleys  how many extra valleys to add
+     * @return world
+     */
+    private static World populateWorld(World world, int extraValleys) {
         FancyGroundFactory groundFactory = new FancyGroundFactory(new Blight(),
                 new Wall(), new Floor(), new Soil(), new TeleportationPortal());
 
-        List<String> valleyMap = Arrays.asList(
-                "xxxx...xxxxxxxxxxxxxxxxxxxxxxx........xx",
-                "xxx.....xxxxxxx..xxxxxxxxxxxxx.........x",
-                "..........xxxx....xxxxxxxxxxxxxx.......x",
-                "....xxx...........xxxxxxxxxxxxxxx.....xx",
-                "...xxxxx...........xxxxxxxxxxxxxx.....xx",
-                "...xxxxxxxxxx.......xxxxxxxx...xx......x",
-                "....xxxxxxxxxx........xxxxxx...xxx......",
-                "....xxxxxxxxxxx.........xxx....xxxx.....",
-                "....xxxxxxxxxxx................xxxx.....",
-                "...xxxx...xxxxxx.....#####.....xxx......",
-                "...xxx....xxxxxxx....#___#.....xx.......",
-                "..xxxx...xxxxxxxxx...#___#....xx........",
-                "xxxxx...xxxxxxxxxx...##_##...xxx.......x",
-                "xxxxx..xxxxxxxxxxx.........xxxxx......xx",
-                "xxxxx..xxxxxxxxxxxx.......xxxxxx......xx");
-        GameMap valley = new GameMap("Valley of the Inheritree", groundFactory, valleyMap);
+        GameMap valley = new GameMap("Valley of the Inheritree", groundFactory, VALLEY_MAP);
         world.addGameMap(valley);
+        trackSurroundingCapabilities(valley);
 
-        List<String> limveldMap = Arrays.asList(
-                ".............xxxx",
-                "..............xxx",
-                "................x",
-                ".................",
-                "................x",
-                "...............xx",
-                "..............xxx",
-                "..............xxx",
-                "..............xxx",
-                ".............xxxx",
-                ".............xxxx",
-                "....xxx.....xxxxx",
-                "....xxxx...xxxxxx");
-
-        GameMap limveld = new GameMap("portal of the Inheritree", groundFactory, limveldMap);
+        GameMap limveld = new GameMap("portal of the Inheritree", groundFactory, LIMVELD_MAP);
         world.addGameMap(limveld);
+        trackSurroundingCapabilities(limveld);
 
         SpiritGoat randomGoat = new SpiritGoat(new RandomBehaviourSelector());
         OmenSheep randomSheep = new OmenSheep(new RandomBehaviourSelector());
@@ -83,15 +160,44 @@ public class Application {
         setUpPortal("Limveld", portalValley, portalLimveld);
         setUpPortal("Inheritree", portalLimveld, portalValley);
 
-        for (String line : FancyMessage.TITLE.split("\n")) {
-            new Display().println(line);
-            try {
-                Thread.sleep(200);
-            } catch (Exception exception) {
-                exception.printStackTrace();
-            }
+        TimeManager timeManager = new TimeManager();
+        populateValley(valley, timeManager);
+
+        Player player = new Player("Farmer", '@', 100, 200, timeManager);
+        world.addPlayer(player, valley.at(23, 10));
+
+        player.addItemToInventory(new Seed(new Inheritree()));
+        player.addItemToInventory(new Seed(new Bloodrose()));
+
+        for (int i = 1; i <= extraValleys; i++) {
+            GameMap copy = new GameMap("Valley of the Inheritree #" + i, groundFactory, VALLEY_MAP);
+            world.addGameMap(copy);
+            trackSurroundingCapabilities(copy);
+            populateValley(copy, timeManager);
         }
 
+        return world;
+    }
+
+    /**
+     * Keeps count of the capabilities that are looked for around actors and items every tick
+     * (see {@link LocationUtils#hasSurroundingWith(Enum)}), so that looking is a single read.
+     *
+     * @param map the map to keep count on
+     */
+    private static void trackSurroundingCapabilities(GameMap map) {
+        map.trackCapability(Status.CURSED);
+        map.trackCapability(Ability.POISONOUS);
+        map.trackCapability(Status.BLESSED_BY_GRACE);
+    }
+
+    /**
+     * Places the valley's NPCs, items, poison fog and relic altar.
+     *
+     * @param valley      a map built from the valley layout
+     * @param timeManager the game's time manager
+     */
+    private static void populateValley(GameMap valley, TimeManager timeManager) {
         SpiritGoat sequentialGoat = new SpiritGoat(new SequentialBehaviourSelector());
         OmenSheep sequentialSheep = new OmenSheep(new SequentialBehaviourSelector());
         GoldenBeetle sequentialBeetle = new GoldenBeetle(new SequentialBehaviourSelector());
@@ -106,13 +212,6 @@ public class Application {
         valley.addActor(sequentialMerchantKale, valley.at(16, 10));
         valley.addActor(sequentialSellen, valley.at(22, 11));
 
-        TimeManager timeManager = new TimeManager();
-        Player player = new Player("Farmer", '@', 100, 200, timeManager);
-        world.addPlayer(player, valley.at(23, 10));
-
-        player.addItemToInventory(new Seed(new Inheritree()));
-        player.addItemToInventory(new Seed(new Bloodrose()));
-
         valley.at(24, 11).addItem(new Talisman());
 
         //Setup for A3REQ3 starts here
@@ -131,10 +230,6 @@ public class Application {
         valley.at(23, 10).addItem(new RelicItemWrapper(new RelicOfBerserker()));
         valley.at(25, 10).addItem(new RelicItemWrapper(new RelicOfAllure()));   // optional: more relics
         valley.at(24, 9).addItem(new RelicItemWrapper(new RelicOfSpeed()));     // optional: more relics
-        new Display().println("Tip: Find the Relic Altar at (23, 10) for ancient powers!");
-
-
-        world.run();
     }
 
     public static void generatePoisonFog(GameMap map, int xA, int yA, int xB, int yB, TimeManager timeManager) {
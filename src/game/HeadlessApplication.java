@@ -0,0 +1,67 @@
+package game;
+
+import edu.monash.fit2099.engine.displays.AnsiDisplay;
+import edu.monash.fit2099.engine.displays.AsyncDisplay;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.HeadlessDisplay;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.RunStatistics;
+import edu.monash.fit2099.engine.positions.World;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the game unattended and reports how fast the game loop went.
+ * <p>
+ * Nothing is drawn and the Farmer's menu choices come from a fixed script of keys,
+ * so this can run for millions of ticks on a machine with no terminal.  Optionally, the
+ * Farmer's map can be previewed on an ANSI terminal, drawn on another thread so that the
+ * game doesn't slow down to the terminal's speed.
+ * <p>
+ * Usage: {@code HeadlessApplication [ticks] [extraValleys] [keys] [threads] [tileSize] [seed] [previewMillis]}
+ * <ul>
+ *     <li>ticks - how many game loop iterations to run (default 10000)</li>
+ *     <li>extraValleys - how many extra populated copies of the valley to add (default 0)</li>
+ *     <li>keys - the Farmer's key presses, replayed in a loop (default "5", i.e. always wait)</li>
+ *     <li>threads - how many threads to tick the maps and plan the NPCs' turns on; 0 does everything one
+ *     after another (default 0)</li>
+ *     <li>tileSize - if threads is set, also tick the squares of each map in tiles this wide; 0 ticks them
+ *     one after another (default 0)</li>
+ *     <li>seed - the seed for everything random, so that runs can be repeated (default: a different game each time)</li>
+ *     <li>previewMillis - if above 0, show the latest frame at most this often; frames in between are skipped
+ *     (default 0, no preview)</li>
+ * </ul>
+ */
+public class HeadlessApplication {
+
+    public static void main(String[] args) {
+        long ticks = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+        int extraValleys = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        String keys = args.length > 2 ? args[2] : "5";
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+        int tileSize = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+
+        long previewMillis = args.length > 6 ? Long.parseLong(args[6]) : 0;
+
+        HeadlessDisplay keyboard = new HeadlessDisplay(keys);
+        Display display = previewMillis > 0 ? new AsyncDisplay(new AnsiDisplay(), keyboard, previewMillis) : keyboard;
+        World world = args.length > 5
+                ? Application.createWorld(display, extraValleys, Long.parseLong(args[5]))
+                : Application.createWorld(display, extraValleys);
+        if (threads > 0) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            world.setMapTickPool(pool);
+            world.setPlanningPool(pool);
+            if (tileSize > 0) {
+                for (GameMap map : world.getGameMaps()) {
+                    map.setCellTickPool(pool, tileSize);
+                }
+            }
+        }
+        RunStatistics statistics = world.runFor(ticks);
+        if (display instanceof AsyncDisplay)
+            ((AsyncDisplay) display).close();
+
+        System.out.println(statistics);
+    }
+}
@@ -2,13 +2,14 @@ package game;
 
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.CapabilityLayer;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 import game.enums.Status;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Utility class for performing operations related to a specific {@link Location} on the map.
@@ -32,11 +33,19 @@ public class LocationUtils {
     /**
      * Checks all surrounding tiles (including the current tile) for the presence of a given {@link Status} capability.
      * This includes actors, items, and ground at each surrounding location.
+     * <p>
+     * If the map keeps a {@link CapabilityLayer} for the capability, only the actors next to the
+     * location need to be looked at; the grounds and items have already been counted.
      *
      * @param capability the status capability to search for
      * @return {@code true} if any adjacent tile contains the given capability on an actor, item, or ground; {@code false} otherwise
      */
     public boolean hasSurroundingWith(Enum<?> capability) {
+        CapabilityLayer layer = location.map().capabilityLayer(capability);
+        if (layer != null && location.hasNeighbourExitsOnly()) {
+            return layer.isAround(location.x(), location.y());
+        }
+
         for (Exit exit : location.getExits()) {
             Location destination = exit.getDestination();
             if (destination.getActor() != null && destination.getActor().hasCapability(capability)) {
@@ -121,7 +130,7 @@ public class LocationUtils {
     public void spawnActor(Actor actor) {
         List<Location> validLocations = findValidSpawnLocations(actor);
         if (!validLocations.isEmpty()) {
-            validLocations.get(new Random().nextInt(validLocations.size())).addActor(actor);
+            validLocations.get(actor.getRandom().nextInt(validLocations.size())).addActor(actor);
         }
     }
 
@@ -151,6 +160,30 @@ public class LocationUtils {
         return bestExit;
     }
 
+    /**
+     * Finds the exit that brings an actor closest to a destination, like
+     * {@link #getBestExitTowards(Location, Actor)}, using surroundings that have already been looked at.
+     *
+     * @param surroundings what is around the actor
+     * @param destination  where the actor wants to get to
+     * @return the exit that gets strictly closer than staying put, or {@code null} if none does
+     */
+    public static Exit getBestExitTowards(Neighbourhood surroundings, Location destination) {
+        int shortestDistance = manhattanDistance(surroundings.getCentre(), destination);
+        Exit bestExit = null;
+
+        for (int i = 0; i < surroundings.size(); i++) {
+            if (surroundings.canEnter(i)) {
+                int newDistance = manhattanDistance(surroundings.getDestination(i), destination);
+                if (newDistance < shortestDistance) {
+                    shortestDistance = newDistance;
+                    bestExit = surroundings.getExit(i);
+                }
+            }
+        }
+        return bestExit;
+    }
+
     /**
      * Computes the Manhattan distance between two locations.
      * This is the number of steps required to move from one location to the other
@@ -161,6 +194,10 @@ public class LocationUtils {
      * @return the Manhattan distance between {@code a} and {@code b}
      */
     public int distance(Location a, Location b) {
+        return manhattanDistance(a, b);
+    }
+
+    private static int manhattanDistance(Location a, Location b) {
         return Math.abs(a.x() - b.x()) + Math.abs(a.y() - b.y());
     }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package game;
+
+import edu.monash.fit2099.engine.positions.FancyGroundFactory;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.GroundFactory;
+import game.grounds.Blight;
+import game.grounds.Floor;
+import game.grounds.Soil;
+import game.grounds.Wall;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Times how long it takes to build very large GameMaps, and reports how fast that went.
+ * <p>
+ * Each round builds square maps at half the given size and at the full size, three ways: from
+ * a list of strings, as a map file is read; filled with a single kind of Ground; and from the same
+ * strings with every Ground made by calling its constructor reflectively, looked up in a
+ * {@code Map<Character, Constructor>}, as FancyGroundFactory used to.  The first round warms the
+ * JVM up and isn't counted.
+ * <p>
+ * Building a map takes time in proportion to its number of squares, so the squares per second
+ * should be about the same at both sizes; the reflective column shows what making the Grounds
+ * used to cost.
+ * <p>
+ * Usage: {@code MapConstructionBenchmark [size] [rounds]}
+ * <ul>
+ *     <li>size - the width and height of the larger maps, in squares (default 4096)</li>
+ *     <li>rounds - how many timed rounds to run (default 3)</li>
+ * </ul>
+ * A 4096 x 4096 map takes nearly two gigabytes of heap, and nearly all of it is still in use when the
+ * map is finished, so give the JVM room up front or most of the time goes on garbage collection,
+ * e.g. {@code java -Xms4500m -Xmx4500m -Xmn1g}.
+ */
+public class MapConstructionBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        Ground[] groundTypes = {new Blight(), new Wall(), new Floor(), new Soil()};
+        GroundFactory groundFactory = new FancyGroundFactory(groundTypes);
+        GroundFactory reflectiveFactory = new ReflectiveGroundFactory(groundTypes);
+
+        for (int round = 0; round <= rounds; round++) {
+            for (int side : new int[] {size / 2, size}) {
+                List<String> lines = layout(side);
+                long cells = (long) side * side;
+
+                long fromLines = time(() -> new GameMap("Benchmark", groundFactory, lines));
+                long uniform = time(() -> new GameMap("Benchmark", groundFactory, '.', side, side));
+                long reflective = time(() -> new GameMap("Benchmark", reflectiveFactory, lines));
+
+                if (round > 0)
+                    System.out.println(String.format("Round %d, %d x %d: from lines %s, uniform %s, reflective %s",
+                            round, side, side, report(fromLines, cells), report(uniform, cells), report(reflective, cells)));
+            }
+        }
+    }
+
+    /**
+     * Builds a map, and makes sure it can be moved around on by asking for the exits of a corner.
+     * The garbage is collected first, so that the maps built before this one don't slow it down.
+     *
+     * @param build makes the map
+     * @return how long building the map took, in nanoseconds
+     */
+    private static long time(Supplier<GameMap> build) {
+        System.gc();
+        long start = System.nanoTime();
+        GameMap map = build.get();
+        long built = System.nanoTime();
+        map.at(0, 0).getExits();
+        return built - start;
+    }
+
+    /**
+     * Makes the rows of a map that has Walls round the edge, and Soil, Floor and Blight inside.
+     *
+     * @param size the width and height of the map
+     * @return the rows, top to bottom
+     */
+    private static List<String> layout(int size) {
+        List<String> lines = new ArrayList<>(size);
+        char[] row = new char[size];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (x == 0 || y == 0 || x == size - 1 || y == size - 1)
+                    row[x] = '#';
+                else
+                    row[x] = "..._x".charAt((x * 7 + y * 13) % 5);
+            }
+            lines.add(new String(row));
+        }
+        return lines;
+    }
+
+    private static String report(long nanos, long cells) {
+        double millis = nanos / 1e6;
+        return String.format("%.0f ms (%.1f million squares/s)", millis, cells / millis / 1000);
+    }
+
+    /**
+     * Makes every Ground by calling its constructor reflectively, as FancyGroundFactory used to.
+     */
+    private static class ReflectiveGroundFactory implements GroundFactory {
+        private final Map<Character, Constructor<? extends Ground>> constructors = new HashMap<>();
+
+        ReflectiveGroundFactory(Ground... groundTypes) {
+            for (Ground ground : groundTypes) {
+                try {
+                    constructors.put(ground.getDisplayChar(), ground.getClass().getConstructor());
+                } catch (NoSuchMethodException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            }
+        }
+
+        @Override
+        public Ground newGround(char displayChar) {
+            try {
+                return constructors.get(displayChar).newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
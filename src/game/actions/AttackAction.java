@@ -1,8 +1,10 @@
 package game.actions;
 
 import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.Weapon;
 import game.enums.Status;
 
@@ -58,21 +60,43 @@ public class AttackAction extends Action {
 
     @Override
     public String execute(Actor actor, GameMap map) {
+        return perform(actor, map).render();
+    }
+
+    @Override
+    public ActionResult perform(Actor actor, GameMap map) {
         if (weapon == null) {
             weapon = actor.getIntrinsicWeapon();
         }
 
-        String result = weapon.attack(actor, target, map);
+        ActionResult result = weapon.performAttack(actor, target, map);
         if (target.hasCapability(Status.PASSIVE_ENEMY)) {
             actor.addCapability(Status.ACTIVE_ATTACKER);
         }
         if (!target.isConscious()) {
-            result += "\n" + target.unconscious(actor, map);
+            result = result.thenLine(target.unconscious(actor, map));
         }
 
         return result;
     }
 
+    /**
+     * The target must still be conscious and standing next to the attacker.
+     *
+     * @param actor the attacker
+     * @param map the map the attacker is on
+     * @return true if the target can still be attacked
+     */
+    @Override
+    public boolean isStillValid(Actor actor, GameMap map) {
+        if (!map.contains(target) || !target.isConscious()) {
+            return false;
+        }
+        Location here = map.locationOf(actor);
+        Location there = map.locationOf(target);
+        return Math.abs(here.x() - there.x()) <= 1 && Math.abs(here.y() - there.y()) <= 1;
+    }
+
     @Override
     public String menuDescription(Actor actor) {
         return actor + " attacks " + target + " at " + direction + " with " + (weapon != null ? weapon : actor.getIntrinsicWeapon());
@@ -75,7 +75,7 @@ public class CureAction extends Action implements StaminaCosting {
     public String execute(Actor actor, GameMap map) {
         if (direction == null) {
             if (actor.hasAttribute(BaseActorAttributes.STAMINA)) {
-                if (actor.getAttribute(BaseActorAttributes.STAMINA) < getStaminaCost()) {
+                if (actor.getInt(BaseActorAttributes.STAMINA) < getStaminaCost()) {
                     return actor + " doesn't have enough stamina";
                 }
                 actor.modifyAttribute(BaseActorAttributes.STAMINA, ActorAttributeOperations.DECREASE, getStaminaCost());
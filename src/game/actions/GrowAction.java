@@ -1,6 +1,7 @@
 package game.actions;
 
 import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import game.interfaces.Growable;
@@ -41,6 +42,19 @@ public class GrowAction extends Action {
      */
     @Override
     public String execute(Actor actor, GameMap map) {
+        return perform(actor, map).render();
+    }
+
+    /**
+     * Performs the growth, but leaves describing it until the result is displayed: a big
+     * growable entity has a lot to say, and a Display that shows nothing never needs the text.
+     *
+     * @param actor the {@link Actor} performing the action (not used directly)
+     * @param map   the game map on which the growth occurs
+     * @return what grew
+     */
+    @Override
+    public ActionResult perform(Actor actor, GameMap map) {
         return growable.performGrowth(map);
     }
 
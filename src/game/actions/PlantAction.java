@@ -52,7 +52,7 @@ public class PlantAction extends Action implements StaminaCosting {
     @Override
     public String execute(Actor actor, GameMap map) {
         if (actor.hasAttribute(BaseActorAttributes.STAMINA)) {
-            if (actor.getAttribute(BaseActorAttributes.STAMINA) < getStaminaCost()) {
+            if (actor.getInt(BaseActorAttributes.STAMINA) < getStaminaCost()) {
                 return actor + " doesn't have enough stamina";
             }
             actor.modifyAttribute(BaseActorAttributes.STAMINA, ActorAttributeOperations.DECREASE, getStaminaCost());
@@ -57,6 +57,7 @@ public abstract class NPC extends Actor {
     /**
      * Determines the action that the NPC will take during its turn.
      * Executes the first non-null action returned by its behaviours in priority order.
+     * The NPC looks around once, and every behaviour uses what it saw.
      *
      * @param actions a list of allowable actions
      * @param lastAction the action the NPC performed last turn
@@ -66,7 +67,22 @@ public abstract class NPC extends Actor {
      */
     @Override
     public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
-        return selectionStrategy.selectBehaviour(this, map, behaviours);
+        return selectionStrategy.selectBehaviour(this, map, map.surroundingsOf(this), behaviours);
+    }
+
+    /**
+     * An NPC's turn can be planned concurrently if all of its behaviours only look at the world.
+     *
+     * @return true if every behaviour can be planned concurrently
+     */
+    @Override
+    public boolean canPlanConcurrently() {
+        for (Behaviour behaviour : behaviours.values()) {
+            if (!behaviour.canPlanConcurrently()) {
+                return false;
+            }
+        }
+        return true;
     }
     /**
      * Returns a list of allowable actions that another actor can perform on this NPC.
@@ -94,8 +110,8 @@ public abstract class NPC extends Actor {
     @Override
     public String toString() {
         return name + " (HP: " +
-                this.getAttribute(BaseActorAttributes.HEALTH) + "/" +
-                this.getAttributeMaximum(BaseActorAttributes.HEALTH) +
+                this.getInt(BaseActorAttributes.HEALTH) + "/" +
+                this.getIntMaximum(BaseActorAttributes.HEALTH) +
                 ")";
     }
 }
\ No newline at end of file
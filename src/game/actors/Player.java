@@ -52,12 +52,14 @@ public class Player extends Actor {
     /**
      * Displays the player's death message using the {@link FancyMessage#YOU_DIED} banner.
      * Introduces a short delay between each line similar to the Title message.
+     * Each line is flushed before the delay, so everything printed before it shows up first.
      *
      * @param display the display to print to
      */
     public void printDeathMessage(Display display) {
         for (String line : FancyMessage.YOU_DIED.split("\n")) {
             display.println(line);
+            display.flush();
             try {
                 Thread.sleep(200);
             } catch (InterruptedException e) {
@@ -68,14 +70,14 @@ public class Player extends Actor {
 
     @Override
     public String unconscious(Actor actor, GameMap map) {
-        printDeathMessage(new Display());
+        printDeathMessage(Display.current());
 
         return super.unconscious(actor, map);
     }
 
     @Override
     public String unconscious(GameMap map) {
-        printDeathMessage(new Display());
+        printDeathMessage(Display.current());
 
         return super.unconscious(map);
     }
@@ -116,11 +118,11 @@ public class Player extends Actor {
      */
     private String displayAttributes() {
         return name + ": (HP: " +
-                this.getAttribute(BaseActorAttributes.HEALTH) + "/" +
-                this.getAttributeMaximum(BaseActorAttributes.HEALTH) +
+                this.getInt(BaseActorAttributes.HEALTH) + "/" +
+                this.getIntMaximum(BaseActorAttributes.HEALTH) +
                 ")" + " (STA: " +
-                this.getAttribute(BaseActorAttributes.STAMINA) + "/" +
-                this.getAttributeMaximum(BaseActorAttributes.STAMINA) +
+                this.getInt(BaseActorAttributes.STAMINA) + "/" +
+                this.getIntMaximum(BaseActorAttributes.STAMINA) +
                 ")" + " Runes: " +
                 this.getBalance();
     }
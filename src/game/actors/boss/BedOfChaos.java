@@ -1,6 +1,7 @@
 // BedOfChaos.java - Corrected with proper imports
 package game.actors.boss;
 
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.positions.GameMap;
 import game.actors.NPC;
@@ -11,10 +12,7 @@ import game.interfaces.BehaviourSelectionStrategy;
 import game.interfaces.Growable;
 import game.interfaces.DynamicDamageCalculator;
 import game.weapons.BossWeapon;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * The Bed of Chaos is a stationary boss that grows tree parts each turn and becomes stronger.
@@ -24,17 +22,35 @@ import java.util.Random;
  * Each turn, it grows a new {@link TreePart} (either a {@link Branch} or {@link Leaf}) and allows
  * existing branches to grow further. Its damage increases based on the total contribution from all parts.
  * </p>
+ * <p>
+ * The tree doubles in size every few turns, so the boss doesn't keep its parts: it keeps how many
+ * branches and leaves it has, and the total damage and healing they add.  The branches that grow on a
+ * turn are split into the new branches and the new leaves they grow with a single random draw, so a
+ * turn takes the same time however long the fight goes on.  The counts stop going up once they reach
+ * {@link Long#MAX_VALUE}.
+ * </p>
  *
  * Created by:
  * @author Ali Raza
  */
 public class BedOfChaos extends NPC implements Growable, DynamicDamageCalculator {
 
-    /** The list of all TreeParts currently attached to the boss. */
-    private final List<TreePart> parts = new ArrayList<>();
+    /** The damage the boss does without any parts. */
+    private static final int BASE_DAMAGE = 25;
+
+    /** The kinds of part that branches grow. */
+    private static final TreePart BRANCH = new Branch();
+    private static final TreePart LEAF = new Leaf();
+
+    /** The number of parts that grow a new part each turn. */
+    private long branches;
+    /** The number of parts that don't grow. */
+    private long leaves;
+    /** The total damage all the parts add to the boss's attack. */
+    private long bonusDamage;
+    /** The total healing all the parts give the boss each time it grows. */
+    private long healing;
 
-    /** Random instance used for growth and branching decisions. */
-    private final Random random = new Random();
 
     /**
      * Constructor for the Bed of Chaos.
@@ -57,54 +73,67 @@ public class BedOfChaos extends NPC implements Growable, DynamicDamageCalculator
 
     /**
      * Performs growth for the Bed of Chaos.
-     * Grows a new TreePart, then allows existing Branches to grow recursively.
+     * Grows a new TreePart, then lets the Branches that were already there grow one part each,
+     * and the Leaves that were already there heal the boss.
      *
      * @param map the current game map
-     * @return a string summarizing all growth messages
+     * @return a summary of the growth, only turned into text when it is displayed
      */
     @Override
-    public String performGrowth(GameMap map) {
-        // Start with the main growth message
-        List<String> allMessages = new ArrayList<>();
-        allMessages.add(this + " is growing...");
+    public ActionResult performGrowth(GameMap map) {
+        GrowthReport report = new GrowthReport(this, name);
+
+        // RULE 2: Every branch that ALREADY EXISTS in that turn grows once
+        // RULE 3: Any part created in this turn does NOT grow (or heal) until the next turn
+        long growing = branches;
+        long healingLeaves = leaves;
+        long healed = healing;
 
         // RULE 1: Boss itself always grows one new branch or leaf (50% branch or 50% leaf)
-        TreePart newMainPart = random.nextBoolean() ? new Branch() : new Leaf();
+        TreePart newMainPart = getRandom().nextBoolean() ? BRANCH : LEAF;
         addPart(newMainPart);
-        allMessages.add("It grows a " + newMainPart.getPartType() + "...");
-
-        // RULE 2: Every branch that ALREADY EXISTS in that turn grows once
-        // RULE 3: Any branch created in this turn does NOT get to grow until the next turn
-
-        // Create snapshot of parts that existed BEFORE this growth turn started
-        // This ensures newly created parts (including the one we just added) don't grow
-        List<TreePart> partsExistingBeforeThisTurn = new ArrayList<>();
-        for (TreePart part : parts) {
-            if (part != newMainPart) { // Exclude the part we just created
-                partsExistingBeforeThisTurn.add(part);
-            }
+        report.grows(newMainPart);
+
+        // Each growing branch grows a branch or a leaf (50/50), so the new branches are one binomial draw
+        long newBranches = halfOf(growing);
+        long newLeaves = growing - newBranches;
+        addParts(BRANCH, newBranches);
+        addParts(LEAF, newLeaves);
+        report.branchesGrow(growing, newBranches, newLeaves);
+
+        if (healed > 0) {
+            int amount = (int) Math.min(healed, this.getIntMaximum(BaseActorAttributes.HEALTH));
+            heal(amount);
+            report.healed(healingLeaves, amount);
         }
 
-        // Only process parts that existed before this turn
-        // Use polymorphism - each part knows how to handle growth
-        for (TreePart existingPart : partsExistingBeforeThisTurn) {
-            List<String> partMessages = existingPart.onBossGrowth(this, map);
-            if (!partMessages.isEmpty()) {
-                allMessages.add(""); // Add blank line before each part's growth
-                allMessages.addAll(partMessages);
+        report.summary();
+        return ActionResult.format("%s", report);
+    }
+
+    /**
+     * Draws how many of a number of branches grow a branch rather than a leaf, each doing so with
+     * a 50% chance, in time that doesn't depend on the number.
+     * <p>
+     * Up to 4096 branches are counted exactly, 64 at a time from the bits of random longs; beyond that
+     * the count is close enough to a normal distribution, with mean n/2 and standard deviation sqrt(n)/2.
+     * </p>
+     *
+     * @param n the number of branches growing
+     * @return how many of them grow a branch, between 0 and n
+     */
+    private long halfOf(long n) {
+        SplittableRandom random = getRandom();
+        if (n <= 4096) {
+            long count = 0;
+            for (long left = n; left > 0; left -= 64) {
+                long bits = random.nextLong();
+                count += Long.bitCount(left >= 64 ? bits : bits & ((1L << left) - 1));
             }
+            return count;
         }
-
-        // Add final summary showing current boss state
-        int currentHP = this.getAttribute(BaseActorAttributes.HEALTH);
-        int maxHP = this.getAttributeMaximum(BaseActorAttributes.HEALTH);
-        int currentATK = 25 + calculateBonusDamage();
-
-        allMessages.add("");
-        allMessages.add(this.name + " (HP: " + currentHP + "/" + maxHP + ", ATK: " + currentATK + ")");
-
-        // Join all messages with newlines for proper display
-        return String.join("\n", allMessages);
+        double drawn = n / 2.0 + Math.sqrt(n) / 2 * random.nextGaussian();
+        return Math.max(0, Math.min(n, Math.round(drawn)));
     }
 
     /**
@@ -120,16 +149,23 @@ public class BedOfChaos extends NPC implements Growable, DynamicDamageCalculator
 
     /**
      * Calculates the bonus damage contributed by all TreeParts.
+     * The total is kept up to date as parts grow, so this takes the same time however big the tree is.
+     * It stops at what can be added to the boss's base damage without going past Integer.MAX_VALUE.
      *
      * @return the total additional damage
      */
     @Override
     public int calculateBonusDamage() {
-        int total = 0;
-        for (TreePart part : parts) {
-            total += part.getTotalDamageContribution();
-        }
-        return total;
+        return (int) Math.min(bonusDamage, Integer.MAX_VALUE - BASE_DAMAGE);
+    }
+
+    /**
+     * Returns the damage the boss does now: its base damage plus what all its parts add.
+     *
+     * @return the current attack damage
+     */
+    int getAttack() {
+        return BASE_DAMAGE + calculateBonusDamage();
     }
 
     /**
@@ -137,15 +173,48 @@ public class BedOfChaos extends NPC implements Growable, DynamicDamageCalculator
      * @param part the tree part to add
      */
     public void addPart(TreePart part) {
-        parts.add(part);
+        addParts(part, 1);
+    }
+
+    /**
+     * Adds a number of parts of the same kind to the boss.
+     * @param part  the kind of part to add
+     * @param count how many to add
+     */
+    private void addParts(TreePart part, long count) {
+        if (part.canGrow())
+            branches = plus(branches, count);
+        else
+            leaves = plus(leaves, count);
+        bonusDamage = plus(bonusDamage, times(count, part.getDamageContribution()));
+        healing = plus(healing, times(count, part.getHealingAmount()));
     }
 
     /**
-     * Gets all tree parts attached to this boss.
-     * @return unmodifiable list of tree parts
+     * Returns the number of parts attached to this boss that grow, i.e. its branches.
+     * @return the number of branches
      */
-    public List<TreePart> getParts() {
-        return Collections.unmodifiableList(parts);
+    public long getBranchCount() {
+        return branches;
+    }
+
+    /**
+     * Returns the number of parts attached to this boss that don't grow, i.e. its leaves.
+     * @return the number of leaves
+     */
+    public long getLeafCount() {
+        return leaves;
+    }
+
+    /** Adds two counts that are at least 0, stopping at Long.MAX_VALUE. */
+    private static long plus(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /** Multiplies a count by an amount, both at least 0, stopping at Long.MAX_VALUE. */
+    private static long times(long count, int each) {
+        return each != 0 && count > Long.MAX_VALUE / each ? Long.MAX_VALUE : count * each;
     }
 
     /**
@@ -153,10 +222,10 @@ public class BedOfChaos extends NPC implements Growable, DynamicDamageCalculator
      */
     @Override
     public String toString() {
-        int totalDamage = 25 + calculateBonusDamage(); // Base + parts
+        int totalDamage = getAttack(); // Base + parts
         return name + " (HP: " +
-                this.getAttribute(BaseActorAttributes.HEALTH) + "/" +
-                this.getAttributeMaximum(BaseActorAttributes.HEALTH) +
+                this.getInt(BaseActorAttributes.HEALTH) + "/" +
+                this.getIntMaximum(BaseActorAttributes.HEALTH) +
                 ", ATK: " + totalDamage + ")";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package game.actors.boss;
+
+import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
+
+/**
+ * What happened when a {@link BedOfChaos} grew, kept as numbers rather than text.
+ * <p>
+ * The boss's branches all grow at once, so the report says how many branches grew and how many
+ * branches and leaves they added, and how much the leaves healed, rather than having a line for
+ * every part.  It only builds the text when {@link #toString()} is called, i.e. when a Display renders
+ * the result of the {@link game.actions.GrowAction}; a Display that shows nothing never pays for it.
+ * </p>
+ */
+public class GrowthReport {
+    private final BedOfChaos boss;
+    private final String bossName;
+    private final int maximum;
+    private final int startHp;
+    private final int startAttack;
+
+    private String bossGrew;
+    private long growingBranches;
+    private long newBranches;
+    private long newLeaves;
+    private long healingLeaves;
+    private int healed;
+    private int healedHp;
+    private int healedAttack;
+    private int endHp;
+    private int endAttack;
+
+    /**
+     * Constructor.  Records the boss's HP, maximum HP and ATK as they are before it grows.
+     *
+     * @param boss     the boss that is growing
+     * @param bossName its name
+     */
+    GrowthReport(BedOfChaos boss, String bossName) {
+        this.boss = boss;
+        this.bossName = bossName;
+        this.maximum = boss.getIntMaximum(BaseActorAttributes.HEALTH);
+        this.startHp = boss.getInt(BaseActorAttributes.HEALTH);
+        this.startAttack = boss.getAttack();
+    }
+
+    /**
+     * Records what kind of part the boss itself has grown.
+     *
+     * @param newPart the part that has grown
+     */
+    void grows(TreePart newPart) {
+        bossGrew = newPart.getPartType();
+    }
+
+    /**
+     * Records what the boss's branches grew.
+     *
+     * @param growing     the number of branches that grew
+     * @param newBranches the number of branches they grew
+     * @param newLeaves   the number of leaves they grew
+     */
+    void branchesGrow(long growing, long newBranches, long newLeaves) {
+        this.growingBranches = growing;
+        this.newBranches = newBranches;
+        this.newLeaves = newLeaves;
+    }
+
+    /**
+     * Records that the boss's leaves healed it, with its HP and ATK as they are now.
+     * Its maximum HP is the one it had before growing, as growing doesn't change it.
+     *
+     * @param leaves the number of leaves that healed the boss
+     * @param amount the number of points healed
+     */
+    void healed(long leaves, int amount) {
+        this.healingLeaves = leaves;
+        this.healed = amount;
+        this.healedHp = boss.getInt(BaseActorAttributes.HEALTH);
+        this.healedAttack = boss.getAttack();
+    }
+
+    /**
+     * Records the boss's HP and ATK once it has finished growing.
+     */
+    void summary() {
+        endHp = boss.getInt(BaseActorAttributes.HEALTH);
+        endAttack = boss.getAttack();
+    }
+
+    /**
+     * Builds the text of the report.
+     *
+     * @return the text
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = appendBoss(new StringBuilder(), startHp, startAttack).append(" is growing...");
+        if (bossGrew != null)
+            text.append("\nIt grows a ").append(bossGrew).append("...");
+        if (growingBranches > 0) {
+            text.append("\n\n").append(count(growingBranches, "Branch", "Branches"))
+                    .append(growingBranches == 1 ? " is" : " are").append(" growing...\n")
+                    .append(growingBranches == 1 ? "It grows " : "They grow ")
+                    .append(count(newBranches, "branch", "branches")).append(" and ")
+                    .append(count(newLeaves, "leaf", "leaves")).append("...");
+        }
+        if (healingLeaves > 0) {
+            appendBoss(text.append("\n\n"), healedHp, healedAttack).append(" is healed by ").append(healed)
+                    .append(" points from the growth of ").append(count(healingLeaves, "Leaf", "Leaves"));
+        }
+        appendBoss(text.append("\n\n"), endHp, endAttack);
+        return text.toString();
+    }
+
+    private StringBuilder appendBoss(StringBuilder text, int hp, int attack) {
+        return text.append(bossName).append(" (HP: ").append(hp).append("/").append(maximum)
+                .append(", ATK: ").append(attack).append(")");
+    }
+
+    private static String count(long number, String one, String many) {
+        return number + " " + (number == 1 ? one : many);
+    }
+}
@@ -1,10 +1,5 @@
 package game.actors.boss;
 
-import edu.monash.fit2099.engine.actors.Actor;
-import edu.monash.fit2099.engine.positions.GameMap;
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * A leaf part that heals the boss when it grows.
  * <p>
@@ -31,24 +26,13 @@ public class Leaf extends TreePart {
     }
 
     /**
-     * Performs the growth logic for a leaf.
-     * <p>
-     * When the boss grows, this leaf heals the boss for a fixed amount of HP.
-     * </p>
+     * Returns the healing this leaf gives the boss each time the boss grows.
      *
-     * @param boss the {@link Actor} representing the boss
-     * @param map  the game map context
-     * @return a list of messages describing the healing effect
+     * @return 5 HP
      */
     @Override
-    public List<String> onBossGrowth(Actor boss, GameMap map) {
-        List<String> messages = new ArrayList<>();
-
-        // Leaves heal the boss when it grows
-        boss.heal(HEALING_AMOUNT);
-        messages.add(boss + " is healed by " + HEALING_AMOUNT + " points from " + this + " growth");
-
-        return messages;
+    public int getHealingAmount() {
+        return HEALING_AMOUNT;
     }
 
     /**
@@ -62,17 +46,6 @@ public class Leaf extends TreePart {
         return false; // Leaves cannot grow
     }
 
-    /**
-     * Attempts to grow a new part.
-     * Always returns {@code null} because leaves cannot grow new parts.
-     *
-     * @return null
-     */
-    @Override
-    public TreePart grow() {
-        return null; // Leaves cannot grow additional parts
-    }
-
     /**
      * Returns the type name of this part for display.
      *
@@ -15,7 +15,6 @@ import game.interfaces.Listenable;
 import game.weapons.BareFist;
 
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * A concrete NPC representing Guts, a berserk warrior that can attack the player and surrounding npcs.
@@ -27,8 +26,6 @@ import java.util.Random;
  */
 public class Guts extends NPC implements Listenable, Attacker {
 
-    /** Random generator for selecting monologues. */
-    private final Random random = new Random();
 
     /**
      * Constructor.
@@ -64,17 +61,17 @@ public class Guts extends NPC implements Listenable, Attacker {
         ArrayList<String> monologues = new ArrayList<>();
         monologues.add("RAAAAGH!");
         monologues.add("I’LL CRUSH YOU ALL!");
-        if (listener.getAttribute(BaseActorAttributes.HEALTH) < 50) {
+        if (listener.getInt(BaseActorAttributes.HEALTH) < 50) {
             monologues.add("WEAK! TOO WEAK TO FIGHT ME!");
         }
-        int index = random.nextInt(monologues.size());
+        int index = getRandom().nextInt(monologues.size());
         return monologues.get(index);
     }
 
     @Override
     public boolean canAttack(Actor target, GameMap map) {
         return target.hasCapability(Status.ATTACKABLE) &&
-                target.getAttribute(BaseActorAttributes.HEALTH) >= 50;
+                target.getInt(BaseActorAttributes.HEALTH) >= 50;
     }
 
     /**
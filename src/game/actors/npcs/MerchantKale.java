@@ -21,7 +21,6 @@ import game.weapons.Broadsword;
 import game.weapons.Greatsword;
 
 import java.util.ArrayList;
-import java.util.Random;
 
 
 /**
@@ -34,8 +33,6 @@ import java.util.Random;
  */
 public class MerchantKale extends NPC implements Listenable, Merchant {
 
-    /** Random number generator for selecting a monologue. */
-    private final Random random = new Random();
 
     /**
      * Constructor.
@@ -81,7 +78,7 @@ public class MerchantKale extends NPC implements Listenable, Merchant {
         }
         monologues.add("A merchant’s life is a lonely one. But the roads… they whisper secrets to those who listen.");
 
-        int index = random.nextInt(monologues.size());
+        int index = getRandom().nextInt(monologues.size());
         return monologues.get(index);
     }
 
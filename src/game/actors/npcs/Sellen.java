@@ -22,7 +22,6 @@ import game.weapons.Greatsword;
 import game.weapons.Katana;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * A concrete NPC representing Sellen.
@@ -34,8 +33,6 @@ import java.util.Random;
  */
 public class Sellen extends NPC implements Listenable, Merchant {
 
-    /** Random number generator used for selecting a monologue. */
-    private final Random random = new Random();
 
     /**
      * Constructor.Sellen is initialized with:
@@ -64,7 +61,7 @@ public class Sellen extends NPC implements Listenable, Merchant {
         ArrayList<String> monologues = new ArrayList<>();
         monologues.add("The academy casts out those it fears. Yet knowledge, like the stars, cannot be bound forever.");
         monologues.add("You sense it too, don’t you? The Glintstone hums, even now.");
-        int index = random.nextInt(monologues.size());
+        int index = getRandom().nextInt(monologues.size());
         return monologues.get(index);
     }
 
@@ -62,8 +62,8 @@ public class SolarHound extends NPC implements TimeSensitive, Attacker {
     @Override
     public void onTimeChange(Time currentTime) {
         BaseActorAttributes health = BaseActorAttributes.HEALTH;
-        int currentHP = this.getAttribute(health);
-        int currentMaxHP = this.getAttributeMaximum(health);
+        int currentHP = this.getInt(health);
+        int currentMaxHP = this.getIntMaximum(health);
 
         int newMaxHP;
         if (currentTime == Time.DAWN || currentTime == Time.DUSK) {
@@ -127,8 +127,8 @@ public class SolarHound extends NPC implements TimeSensitive, Attacker {
     @Override
     public boolean canAttack(Actor target, GameMap map) {
         BaseActorAttributes health = BaseActorAttributes.HEALTH;
-        int maxHP = target.getAttributeMaximum(health);
+        int maxHP = target.getIntMaximum(health);
 
-        return target.getAttribute(BaseActorAttributes.HEALTH) >= 0.25 * maxHP;
+        return target.getInt(BaseActorAttributes.HEALTH) >= 0.25 * maxHP;
     }
 }
@@ -3,9 +3,8 @@ package game.behaviours;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 import game.actions.AttackAction;
 import game.enums.Status;
 import game.interfaces.Attacker;
@@ -31,6 +30,18 @@ public class ActiveAttackBehaviour implements Behaviour {
         this.attacker = attacker;
     }
 
+    /**
+     * Looks around the actor and then works as {@link #getAction(Actor, GameMap, Neighbourhood)}.
+     *
+     * @param actor the actor possessing this behaviour
+     * @param map the game map containing the actor
+     * @return the action, or {@code null}
+     */
+    @Override
+    public Action getAction(Actor actor, GameMap map) {
+        return getAction(actor, map, map.surroundingsOf(actor));
+    }
+
     /**
      * Evaluates the surroundings of the given actor to determine if a valid attack target exists.
      * <p>
@@ -44,19 +55,27 @@ public class ActiveAttackBehaviour implements Behaviour {
      *
      * @param actor the actor possessing this behaviour
      * @param map the game map containing the actor
+     * @param surroundings what is around the actor this turn
      * @return an {@link AttackAction} if a valid target is found; {@code null} otherwise
      */
     @Override
-    public Action getAction(Actor actor, GameMap map) {
-        Location location = map.locationOf(actor);
-
-        for (Exit exit : location.getExits()) {
-            Location surrounding = exit.getDestination();
-            Actor candidate = surrounding.getActor();
+    public Action getAction(Actor actor, GameMap map, Neighbourhood surroundings) {
+        for (int i = 0; i < surroundings.size(); i++) {
+            Actor candidate = surroundings.getOccupant(i);
             if (candidate != null && attacker.canAttack(candidate, map)) {
-                return new AttackAction(candidate, exit.getName());
+                return new AttackAction(candidate, surroundings.getExit(i).getName());
             }
         }
         return null;
     }
+
+    /**
+     * Only looks at the adjacent squares to pick a target.
+     *
+     * @return true
+     */
+    @Override
+    public boolean canPlanConcurrently() {
+        return true;
+    }
 }
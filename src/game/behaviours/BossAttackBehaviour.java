@@ -3,9 +3,8 @@ package game.behaviours;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 import game.actions.AttackAction;
 import game.enums.Status;
 
@@ -17,15 +16,26 @@ public class BossAttackBehaviour implements Behaviour {
 
     @Override
     public Action getAction(Actor actor, GameMap map) {
-        Location location = map.locationOf(actor);
+        return getAction(actor, map, map.surroundingsOf(actor));
+    }
 
+    @Override
+    public Action getAction(Actor actor, GameMap map, Neighbourhood surroundings) {
         // Check all adjacent locations for hostile actors
-        for (Exit exit : location.getExits()) {
-            Actor target = exit.getDestination().getActor();
-            if (target != null && target.hasCapability(Status.HOSTILE_TO_ENEMY)) {
-                return new AttackAction(target, exit.getName());
-            }
+        int target = surroundings.indexOfOccupantWith(Status.HOSTILE_TO_ENEMY);
+        if (target >= 0) {
+            return new AttackAction(surroundings.getOccupant(target), surroundings.getExit(target).getName());
         }
         return null;
     }
+
+    /**
+     * Only looks for hostile Actors in the adjacent squares.
+     *
+     * @return true
+     */
+    @Override
+    public boolean canPlanConcurrently() {
+        return true;
+    }
 }
\ No newline at end of file
@@ -3,9 +3,8 @@ package game.behaviours;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 import game.actions.GrowAction;
 import game.enums.Status;
 import game.interfaces.Growable;
@@ -23,8 +22,13 @@ public class BossGrowthBehaviour implements Behaviour {
 
     @Override
     public Action getAction(Actor actor, GameMap map) {
+        return getAction(actor, map, map.surroundingsOf(actor));
+    }
+
+    @Override
+    public Action getAction(Actor actor, GameMap map, Neighbourhood surroundings) {
         // Check if actor can grow and no player is nearby
-        if (actor.hasCapability(Status.CAN_GROW) && !isPlayerNearby(actor, map)) {
+        if (actor.hasCapability(Status.CAN_GROW) && !isPlayerNearby(surroundings)) {
             return new GrowAction(growable);
         }
         return null;
@@ -32,18 +36,20 @@ public class BossGrowthBehaviour implements Behaviour {
 
     /**
      * Checks if any hostile actor (player) is in adjacent tiles.
-     * @param actor the actor to check around
-     * @param map the current game map
+     * @param surroundings what is around the actor this turn
      * @return true if a hostile actor is nearby
      */
-    private boolean isPlayerNearby(Actor actor, GameMap map) {
-        Location actorLocation = map.locationOf(actor);
-        for (Exit exit : actorLocation.getExits()) {
-            Actor nearbyActor = exit.getDestination().getActor();
-            if (nearbyActor != null && nearbyActor.hasCapability(Status.HOSTILE_TO_ENEMY)) {
-                return true;
-            }
-        }
-        return false;
+    private boolean isPlayerNearby(Neighbourhood surroundings) {
+        return surroundings.indexOfOccupantWith(Status.HOSTILE_TO_ENEMY) >= 0;
+    }
+
+    /**
+     * Only checks for a nearby player; the growing happens when the GrowAction is executed.
+     *
+     * @return true
+     */
+    @Override
+    public boolean canPlanConcurrently() {
+        return true;
     }
 }
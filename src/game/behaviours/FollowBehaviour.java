@@ -6,7 +6,7 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 import game.LocationUtils;
 import game.enums.Status;
 
@@ -25,6 +25,18 @@ public class FollowBehaviour implements Behaviour {
     /** The target actor to follow. */
     private Actor target;
 
+    /**
+     * Looks around the actor and then works as {@link #getAction(Actor, GameMap, Neighbourhood)}.
+     *
+     * @param actor the actor with this behaviour
+     * @param map the game map
+     * @return a {@link MoveActorAction} to move closer to the target, or {@code null} if no movement is needed
+     */
+    @Override
+    public Action getAction(Actor actor, GameMap map) {
+        return getAction(actor, map, map.surroundingsOf(actor));
+    }
+
     /**
      * Returns an action that will move the actor closer to its followable target.
      * If no target has been found yet, this method will look for one in adjacent tiles.
@@ -32,19 +44,18 @@ public class FollowBehaviour implements Behaviour {
      *
      * @param actor the actor with this behaviour
      * @param map the game map
+     * @param surroundings what is around the actor this turn
      * @return a {@link MoveActorAction} to move closer to the target, or {@code null} if no movement is needed
      */
     @Override
-    public Action getAction(Actor actor, GameMap map) {
+    public Action getAction(Actor actor, GameMap map, Neighbourhood surroundings) {
         if (!map.contains(actor)) {
             return null;
         }
 
-        Location here = map.locationOf(actor);
-        LocationUtils utils = new LocationUtils(here);
-
         if (target == null) {
-            target = utils.getAdjacentActorWith(Status.FOLLOWABLE);
+            int found = surroundings.indexOfOccupantWith(Status.FOLLOWABLE);
+            target = found >= 0 ? surroundings.getOccupant(found) : null;
             return null;
         }
 
@@ -52,8 +63,7 @@ public class FollowBehaviour implements Behaviour {
             return null;
         }
 
-        Location there = map.locationOf(target);
-        Exit bestExit = utils.getBestExitTowards(there, actor);
+        Exit bestExit = LocationUtils.getBestExitTowards(surroundings, map.locationOf(target));
 
         if (bestExit != null) {
             return new MoveActorAction(bestExit.getDestination(), bestExit.getName());
@@ -61,4 +71,14 @@ public class FollowBehaviour implements Behaviour {
 
         return null;
     }
+
+    /**
+     * Only reads the map; the only thing it changes is which target it remembers.
+     *
+     * @return true
+     */
+    @Override
+    public boolean canPlanConcurrently() {
+        return true;
+    }
 }
@@ -9,6 +9,7 @@ import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 import game.LocationUtils;
 import game.enums.Status;
 
@@ -32,6 +33,18 @@ public class PassiveAttackBehaviour implements Behaviour {
      */
     private int currentHealth;
 
+    /**
+     * Looks around the actor and then works as {@link #getAction(Actor, GameMap, Neighbourhood)}.
+     *
+     * @param actor the actor this behaviour belongs to
+     * @param map the map the actor is on
+     * @return an {@link Action} to perform (attack or move), or {@code null} if no action is taken
+     */
+    @Override
+    public Action getAction(Actor actor, GameMap map) {
+        return getAction(actor, map, map.surroundingsOf(actor));
+    }
+
     /**
      * Determines the next action the actor should take.
      * If the actor's health has dropped during the turn, it searches for an adjacent attacker.
@@ -39,18 +52,17 @@ public class PassiveAttackBehaviour implements Behaviour {
      *
      * @param actor the actor this behaviour belongs to
      * @param map the map the actor is on
+     * @param surroundings what is around the actor this turn
      * @return an {@link Action} to perform (attack or move), or {@code null} if no action is taken
      */
     @Override
-    public Action getAction(Actor actor, GameMap map) {
-        Location here = map.locationOf(actor);
-        LocationUtils utils = new LocationUtils(here);
-
+    public Action getAction(Actor actor, GameMap map, Neighbourhood surroundings) {
         int previousHealth = currentHealth;
-        currentHealth = actor.getAttribute(BaseActorAttributes.HEALTH);
+        currentHealth = actor.getInt(BaseActorAttributes.HEALTH);
 
         if (attacker == null || previousHealth > currentHealth) {
-            attacker = utils.getAdjacentActorWith(Status.ACTIVE_ATTACKER);
+            int found = surroundings.indexOfOccupantWith(Status.ACTIVE_ATTACKER);
+            attacker = found >= 0 ? surroundings.getOccupant(found) : null;
             if (attacker != null) {
                 attacker.removeCapability(Status.ACTIVE_ATTACKER);
             }
@@ -63,12 +75,13 @@ public class PassiveAttackBehaviour implements Behaviour {
             }
 
             Location attackerLocation = map.locationOf(attacker);
-            if (utils.isAdjacentTo(attackerLocation)) {
-                String direction = utils.getDirectionToActor(attacker);
+            int adjacent = surroundings.indexOf(attackerLocation);
+            if (adjacent >= 0) {
+                String direction = surroundings.getExit(adjacent).getName();
                 return new AttackAction(attacker, direction);
             }
 
-            Exit bestExit = utils.getBestExitTowards(attackerLocation, actor);
+            Exit bestExit = LocationUtils.getBestExitTowards(surroundings, attackerLocation);
             if (bestExit != null) {
                 return new MoveActorAction(bestExit.getDestination(), bestExit.getName());
             }
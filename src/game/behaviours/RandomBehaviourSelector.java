@@ -5,24 +5,28 @@ import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 import game.interfaces.BehaviourSelectionStrategy;
 
 import java.util.*;
 
 public class RandomBehaviourSelector implements BehaviourSelectionStrategy {
-    private Random random = new Random();
 
     @Override
-    public Action selectBehaviour(Actor actor, GameMap map, Map<Integer, Behaviour> behaviours) {
+    public Action selectBehaviour(Actor actor, GameMap map, Neighbourhood surroundings, Map<Integer, Behaviour> behaviours) {
         if (behaviours.isEmpty()) {
             return null;
         }
 
+        // Shuffle with the actor's own random stream (Fisher-Yates, as Collections.shuffle needs a Random)
         List<Behaviour> behaviourList = new ArrayList<>(behaviours.values());
-        Collections.shuffle(behaviourList, random);
+        SplittableRandom random = actor.getRandom();
+        for (int i = behaviourList.size() - 1; i > 0; i--) {
+            Collections.swap(behaviourList, i, random.nextInt(i + 1));
+        }
 
         for (Behaviour behaviour : behaviourList) {
-            Action action = behaviour.getAction(actor, map);
+            Action action = behaviour.getAction(actor, map, surroundings);
             if (action != null) {
                 return action;
             }
@@ -82,4 +82,14 @@ public class ReproduceBehaviour extends Action implements Behaviour {
     public String menuDescription(Actor actor) {
         return actor + " reproduces an offspring";
     }
+
+    /**
+     * Only advances its own interval counter; the reproducing happens when this is executed.
+     *
+     * @return true
+     */
+    @Override
+    public boolean canPlanConcurrently() {
+        return true;
+    }
 }
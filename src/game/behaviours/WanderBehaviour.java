@@ -2,13 +2,11 @@ package game.behaviours;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
-
-import java.util.ArrayList;
-import java.util.Random;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 
 /**
  * Class representing random movement for
@@ -21,7 +19,17 @@ import java.util.Random;
  */
 public class WanderBehaviour implements Behaviour {
 
-    private final Random random = new Random();
+    /**
+     * Looks around the actor and then works as {@link #getAction(Actor, GameMap, Neighbourhood)}.
+     *
+     * @param actor the Actor enacting the behaviour
+     * @param map the map that actor is currently on
+     * @return an Action, or null if no MoveAction is possible
+     */
+    @Override
+    public Action getAction(Actor actor, GameMap map) {
+        return getAction(actor, map, map.surroundingsOf(actor));
+    }
 
     /**
      * Returns a MoveAction to wander to a random location, if possible.
@@ -29,24 +37,34 @@ public class WanderBehaviour implements Behaviour {
      *
      * @param actor the Actor enacting the behaviour
      * @param map the map that actor is currently on
+     * @param surroundings what is around the actor this turn
      * @return an Action, or null if no MoveAction is possible
      */
     @Override
-    public Action getAction(Actor actor, GameMap map) {
-        ArrayList<Action> actions = new ArrayList<>();
+    public Action getAction(Actor actor, GameMap map, Neighbourhood surroundings) {
+        int choices = surroundings.enterableCount();
+        if (choices == 0) {
+            return null;
+        }
 
-        for (Exit exit : map.locationOf(actor).getExits()) {
-            Location destination = exit.getDestination();
-            if (destination.canActorEnter(actor)) {
-                actions.add(exit.getDestination().getMoveAction(actor, "around", exit.getHotKey()));
+        // Pick one of the enterable exits, and only make the action for that one
+        int choice = actor.getRandom().nextInt(choices);
+        for (int i = 0; i < surroundings.size(); i++) {
+            if (surroundings.canEnter(i) && choice-- == 0) {
+                Exit exit = surroundings.getExit(i);
+                return new MoveActorAction(surroundings.getDestination(i), "around", exit.getHotKey());
             }
         }
+        return null;
+    }
 
-        if (!actions.isEmpty()) {
-            return actions.get(random.nextInt(actions.size()));
-        }
-        else {
-            return null;
-        }
+    /**
+     * Only looks at which adjacent squares can be entered.
+     *
+     * @return true
+     */
+    @Override
+    public boolean canPlanConcurrently() {
+        return true;
     }
 }
\ No newline at end of file
@@ -58,7 +58,7 @@ public class PoisonEffect extends StatusEffect {
             currentTick--;
 
             if (!actor.isConscious()) {
-                new Display().println(actor + " has succumbed to poison");
+                Display.current().println(actor + " has succumbed to poison");
                 actor.unconscious(location.map());
             }
         } else {
@@ -8,6 +8,7 @@ import edu.monash.fit2099.engine.positions.Location;
 /**
  * A status effect that represents Crimson Rot, a condition that eventually knocks out the afflicted actor.
  * The rot progresses each turn, and if not cured in time, the actor becomes unconscious after a fixed duration.
+ * It is only ticked when the time is up; the turns in between are counted from the scheduler.
  * @author Chan Chee Wei
  */
 public class RotEffect extends StatusEffect {
@@ -40,6 +41,7 @@ public class RotEffect extends StatusEffect {
      */
     public void reset() {
         currentTurn = 0;
+        rescheduleUpdate();
     }
 
     /**
@@ -52,21 +54,44 @@ public class RotEffect extends StatusEffect {
      */
     @Override
     public void tick(Location location, Actor actor) {
-        if (currentTurn >= rotTimer) {
-            new Display().println(actor + " has succumbed to " + this);
+        tick(location, actor, 1);
+    }
+
+    /**
+     * Catches up on the turns since the rot was last ticked, which is only when it runs out
+     * (see {@link #ticksUntilNextUpdate()}).
+     *
+     * @param location the actor's current location
+     * @param actor    the affected actor
+     * @param elapsed  the number of turns since the last tick
+     */
+    @Override
+    public void tick(Location location, Actor actor, int elapsed) {
+        int counted = Math.min(elapsed, rotTimer - currentTurn);
+        currentTurn += counted;
+        if (elapsed > counted) {
+            Display.current().println(actor + " has succumbed to " + this);
             actor.unconscious(location.map());
-        } else {
-            currentTurn++;
         }
     }
 
+    /**
+     * The rot has nothing to do until the turn after the timer runs out.
+     *
+     * @return the number of turns until the actor succumbs
+     */
+    @Override
+    public int ticksUntilNextUpdate() {
+        return rotTimer - currentTurn + 1;
+    }
+
     /**
      * Returns a string representation of the number of turns remaining until the rot takes effect.
      *
      * @return formatted string showing remaining turns
      */
     public String getTurnLeft() {
-        int turnsLeft = getRotTimer() - currentTurn;
+        int turnsLeft = getRotTimer() - Math.min(currentTurn + ticksSinceLastUpdate(), getRotTimer());
 
         String result = (turnsLeft) + "/" + getRotTimer();
         result += " turn" + (turnsLeft == 1 ? "" : "s");
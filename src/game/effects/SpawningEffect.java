@@ -6,7 +6,6 @@ import edu.monash.fit2099.engine.positions.Location;
 import game.LocationUtils;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * An {@link Effect} implementation that spawns a new actor at a valid adjacent location.
@@ -19,9 +18,6 @@ import java.util.Random;
 public class SpawningEffect implements Effect{
     private final Actor spawn;
 
-    /** Random generator used to select a spawn location. */
-    private final Random random;
-
     /**
      * Constructs a SpawningEffect with the given actor to be spawned.
      *
@@ -29,7 +25,6 @@ public class SpawningEffect implements Effect{
      */
     public SpawningEffect(Actor spawn) {
         this.spawn = spawn;
-        this.random = new Random();
     }
 
     /**
@@ -48,7 +43,7 @@ public class SpawningEffect implements Effect{
             return String.format("No valid location to spawn %s near %s", spawn, actor);
         }
 
-        Location spawnLocation = surroundings.get(random.nextInt(surroundings.size()));
+        Location spawnLocation = surroundings.get(actor.getRandom().nextInt(surroundings.size()));
         spawnLocation.addActor(spawn);
         return String.format("New %s spawned at %s's surrounding", spawn, actor);
     }
@@ -1,10 +1,10 @@
 package game.grounds;
 
+import edu.monash.fit2099.engine.RandomStreams;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
 import game.items.*;
 
-import java.util.Random;
 
 /**
  * A mystical altar that occasionally spawns a cursed relic on the ground.
@@ -18,8 +18,6 @@ import java.util.Random;
  */
 public class RelicAltar extends Ground {
 
-    /** A random number generator used for relic spawning logic. */
-    private final Random random = new Random();
 
     /**
      * Constructor to create a RelicAltar with a special ground symbol and name.
@@ -43,7 +41,7 @@ public class RelicAltar extends Ground {
         // If the ground has no item yet, 10% chance to spawn a relic
         if (!location.getItems().isEmpty()) return;
 
-        if (random.nextInt(100) < 10) {  // 10% chance per tick
+        if (RandomStreams.current().nextInt(100) < 10) {  // 10% chance per tick
             CursedRelic relic = generateRandomRelic();
             location.addItem(new RelicItemWrapper(relic));
         }
@@ -55,7 +53,7 @@ public class RelicAltar extends Ground {
      * @return a randomly chosen {@link CursedRelic}
      */
     private CursedRelic generateRandomRelic() {
-        int roll = random.nextInt(3);
+        int roll = RandomStreams.current().nextInt(3);
         return switch (roll) {
             case 0 -> new RelicOfBerserker();
             case 1 -> new RelicOfSpeed();
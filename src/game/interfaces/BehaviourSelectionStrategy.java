@@ -4,6 +4,7 @@ import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Neighbourhood;
 
 import java.util.Map;
 /**
@@ -26,5 +27,19 @@ public interface BehaviourSelectionStrategy {
      * @param behaviours a map of priority integers to {@link Behaviour} instances
      * @return the selected {@link Action} to be performed, or {@code null} if no action is selected
      */
-    Action selectBehaviour(Actor actor, GameMap map, Map<Integer, Behaviour> behaviours);
+    default Action selectBehaviour(Actor actor, GameMap map, Map<Integer, Behaviour> behaviours) {
+        return selectBehaviour(actor, map, map.surroundingsOf(actor), behaviours);
+    }
+
+    /**
+     * Selects an appropriate action for the actor from the provided behaviours, which all share
+     * the same look at the actor's surroundings.
+     *
+     * @param actor        the {@link Actor} whose action is being selected
+     * @param map          the current {@link GameMap}
+     * @param surroundings what is around the actor this turn
+     * @param behaviours   a map of priority integers to {@link Behaviour} instances
+     * @return the selected {@link Action} to be performed, or {@code null} if no action is selected
+     */
+    Action selectBehaviour(Actor actor, GameMap map, Neighbourhood surroundings, Map<Integer, Behaviour> behaviours);
 }
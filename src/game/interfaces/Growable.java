@@ -1,5 +1,6 @@
 package game.interfaces;
 
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 
@@ -11,9 +12,9 @@ public interface Growable {
     /**
      * Performs the growth action for this entity.
      * @param map the current game map
-     * @return a description of what grew
+     * @return a description of what grew, formatted only when it is displayed
      */
-    String performGrowth(GameMap map);
+    ActionResult performGrowth(GameMap map);
 
     /**
      * Determines if this entity can currently grow.
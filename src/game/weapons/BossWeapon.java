@@ -1,10 +1,11 @@
 package game.weapons;
 
+import edu.monash.fit2099.engine.RandomStreams;
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import game.interfaces.DynamicWeapon;
-import java.util.Random;
 import game.interfaces.DynamicDamageCalculator;
 
 /**
@@ -25,17 +26,17 @@ public class BossWeapon extends IntrinsicWeapon implements DynamicWeapon {
     }
 
     @Override
-    public String attack(Actor attacker, Actor target, GameMap map) {
-        int totalDamage = getCurrentDamage();
+    public ActionResult performAttack(Actor attacker, Actor target, GameMap map) {
+        int bonusDamage = damageCalculator.calculateBonusDamage();
+        int totalDamage = damage + bonusDamage;
 
-        Random rand = new Random();
-        if (!(rand.nextInt(100) < hitRate)) {
-            return attacker + " misses " + target + ".";
+        if (!(RandomStreams.current().nextInt(100) < hitRate)) {
+            return ActionResult.format("%s misses %s.", attacker, target);
         }
 
         target.hurt(totalDamage);
-        return String.format("%s %s %s for %d damage (base: %d + bonus: %d)",
-                attacker, verb, target, totalDamage, damage, damageCalculator.calculateBonusDamage());
+        return ActionResult.format("%s %s %s for %d damage (base: %d + bonus: %d)",
+                attacker, verb, target, totalDamage, damage, bonusDamage);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package game.weapons;
 
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
@@ -67,13 +68,13 @@ public class Moonveil extends WeaponItem implements TimeSensitive {
      * @param attacker the actor performing the attack
      * @param target   the actor being attacked
      * @param map      the map where the attack takes place
-     * @return a string describing the outcome of the attack
+     * @return the outcome of the attack
      */
     @Override
-    public String attack(Actor attacker, Actor target, GameMap map) {
+    public ActionResult performAttack(Actor attacker, Actor target, GameMap map) {
         if (isAttackSuccessful()) {
             target.hurt(getDamage());
-            StringBuilder result = new StringBuilder(String.format("%s %s %s for %d damage", attacker, getVerb(), target, getDamage()));
+            ActionResult result = ActionResult.format("%s %s %s for %d damage", attacker, getVerb(), target, getDamage());
 
             if (timeManager.getCurrentTime() == Time.NIGHT) {
                 Location attackerLocation = map.locationOf(attacker);
@@ -89,14 +90,14 @@ public class Moonveil extends WeaponItem implements TimeSensitive {
                     Actor flankTarget = exit.getDestination().getActor();
                     if (flankTarget != null) {
                         flankTarget.hurt(flankDamage);
-                        result.append(String.format("%n%s %s %s using %s for %d damage from the flank", attacker, getVerb(), flankTarget, this, flankDamage));
+                        result = result.thenLine(ActionResult.format("%s %s %s using %s for %d damage from the flank", attacker, getVerb(), flankTarget, this, flankDamage));
                     }
                 }
             }
 
-            return result.toString();
+            return result;
         } else {
-            return attacker + " misses " + target + ".";
+            return ActionResult.format("%s misses %s.", attacker, target);
         }
     }
 }
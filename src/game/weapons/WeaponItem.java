@@ -1,6 +1,8 @@
 package game.weapons;
 
+import edu.monash.fit2099.engine.RandomStreams;
 import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.ActionResult;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
@@ -11,7 +13,6 @@ import game.actions.AttackAction;
 import game.enums.Status;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * Class representing items that can be used as a weapon.
@@ -93,16 +94,20 @@ public class WeaponItem extends Item implements Weapon {
 
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
+        return performAttack(attacker, target, map).render();
+    }
+
+    @Override
+    public ActionResult performAttack(Actor attacker, Actor target, GameMap map) {
         if (isAttackSuccessful()) {
             target.hurt(getDamage());
-            return String.format("%s %s %s for %d damage", attacker, verb, target, damage);
+            return ActionResult.format("%s %s %s for %d damage", attacker, verb, target, damage);
         } else {
-            return attacker + " misses " + target + ".";
+            return ActionResult.format("%s misses %s.", attacker, target);
         }
     }
 
     protected boolean isAttackSuccessful() {
-        Random rand = new Random();
-        return rand.nextInt(100) < this.hitRate;
+        return RandomStreams.current().nextInt(100) < this.hitRate;
     }
 }